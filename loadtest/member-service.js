@@ -0,0 +1,63 @@
+// k6 scenario for comparing platform-thread and virtual-thread request execution.
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 loadtest/member-service.js
+// Mix: BCrypt-bound logins, DB-bound member reads and listings.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '400');
+const USERS = parseInt(__ENV.USERS || '50');
+const PASSWORD = 'LoadTest#123';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus', vus: VUS, duration: __ENV.DURATION || '2m', exec: 'reads',
+        },
+        logins: {
+            executor: 'constant-vus', vus: Math.max(1, Math.floor(VUS / 10)), duration: __ENV.DURATION || '2m', exec: 'logins',
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+    },
+};
+
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+function email(i) {
+    return `loadtest-${i}@example.com`;
+}
+
+function login(i) {
+    const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ username: email(i), password: PASSWORD }), json);
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return res.json('data.accessToken');
+}
+
+export function setup() {
+    const tokens = [];
+    for (let i = 0; i < USERS; i++) {
+        http.post(`${BASE_URL}/api/members/register`, JSON.stringify({
+            firstName: 'Load', lastName: `Test${i}`, phoneNumber: `08${String(10000000 + i)}`,
+            email: email(i), password: PASSWORD, dateOfBirth: '1990-01-01',
+        }), json);
+        tokens.push(login(i));
+    }
+    return { tokens };
+}
+
+export function reads(data) {
+    const token = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+    const auth = { headers: { Authorization: `Bearer ${token}` } };
+    const list = http.get(`${BASE_URL}/api/members/scroll?size=50`, auth);
+    check(list, { 'scroll 200': (r) => r.status === 200 });
+    const memberId = list.json('data.content.0.memberId');
+    if (memberId) {
+        check(http.get(`${BASE_URL}/api/members/${memberId}`, auth), { 'member 200': (r) => r.status === 200 });
+    }
+}
+
+export function logins() {
+    login(Math.floor(Math.random() * USERS));
+}
@@ -0,0 +1,71 @@
+package com.example.memberservice.filter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.memberservice.utils.JwtUtils;
+import com.example.memberservice.utils.TokenDenylist;
+
+import jakarta.servlet.ServletException;
+
+/**
+ * Full authentication filter pass for an authenticated and an anonymous request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtUtils jwtUtils = new JwtUtils(10_000);
+        jwtFilter = new JwtFilter(jwtUtils, new TokenDenylist());
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/members/1");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + jwtUtils.createAccessToken("benchmark@example.com"));
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/members/1");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws ServletException, IOException {
+        return filter(authenticatedRequest);
+    }
+
+    @Benchmark
+    public Object anonymousRequest() throws ServletException, IOException {
+        return filter(anonymousRequest);
+    }
+
+    private Object filter(MockHttpServletRequest request) throws ServletException, IOException {
+        try {
+            jwtFilter.doFilterInternal(request, response, new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.memberservice.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The record reads of redeemPoints against an in-memory H2 point_record indexed like
+ * idx_point_record_member_received: loading every available record before allocating, against the
+ * doubling windows PointService reads now. The windowed cost follows pointsToRedeem and stays flat in recordCount.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointRedemptionWindowBenchmark {
+
+    private static final int POINTS_PER_RECORD = 10;
+    private static final long MEMBER_ID = 1L;
+    private static final int FIRST_WINDOW_SIZE = 8;
+    private static final int MAX_WINDOW_SIZE = 512;
+
+    private static final String SELECT_ALL_SQL =
+            "SELECT id, received_date, remaining_points FROM point_record "
+            + "WHERE member_id = ? AND remaining_points > 0 AND expire_date > ? ORDER BY received_date";
+
+    private static final String SELECT_WINDOW_SQL =
+            "SELECT id, received_date, remaining_points FROM point_record "
+            + "WHERE member_id = ? AND remaining_points > 0 AND expire_date > ? "
+            + "AND received_date >= ? AND (received_date > ? OR id > ?) "
+            + "ORDER BY member_id, received_date, id LIMIT ?";
+
+    @Param({ "100", "10000" })
+    private int recordCount;
+
+    @Param({ "15", "5000" })
+    private int pointsToRedeem;
+
+    private Connection connection;
+    private PreparedStatement selectAll;
+    private PreparedStatement selectWindow;
+    private Timestamp now;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:redemption-" + recordCount + "-" + pointsToRedeem);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE point_record (id BIGINT PRIMARY KEY, member_id BIGINT NOT NULL, "
+                    + "received_date TIMESTAMP(6) NOT NULL, remaining_points INT NOT NULL, expire_date TIMESTAMP(6) NOT NULL)");
+            statement.execute("CREATE INDEX idx_point_record_member_received "
+                    + "ON point_record (member_id, received_date, id, remaining_points, expire_date)");
+        }
+        LocalDateTime start = LocalDateTime.now().minusDays(recordCount);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO point_record VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < recordCount; i++) {
+                insert.setLong(1, i + 1);
+                insert.setLong(2, MEMBER_ID);
+                insert.setTimestamp(3, Timestamp.valueOf(start.plusDays(i)));
+                insert.setInt(4, POINTS_PER_RECORD);
+                insert.setTimestamp(5, Timestamp.valueOf(start.plusYears(100)));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        selectAll = connection.prepareStatement(SELECT_ALL_SQL);
+        selectWindow = connection.prepareStatement(SELECT_WINDOW_SQL);
+        now = Timestamp.valueOf(LocalDateTime.now());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int loadAllAvailable() throws SQLException {
+        int remaining = pointsToRedeem;
+        selectAll.setLong(1, MEMBER_ID);
+        selectAll.setTimestamp(2, now);
+        try (ResultSet rs = selectAll.executeQuery()) {
+            while (rs.next()) {
+                if (remaining > 0) {
+                    remaining -= Math.min(remaining, rs.getInt(3));
+                }
+            }
+        }
+        return remaining;
+    }
+
+    @Benchmark
+    public int windowed() throws SQLException {
+        int remaining = pointsToRedeem;
+        Timestamp afterReceivedDate = Timestamp.valueOf(LocalDateTime.of(1000, 1, 1, 0, 0));
+        long afterId = 0L;
+        int windowSize = FIRST_WINDOW_SIZE;
+        while (remaining > 0) {
+            selectWindow.setLong(1, MEMBER_ID);
+            selectWindow.setTimestamp(2, now);
+            selectWindow.setTimestamp(3, afterReceivedDate);
+            selectWindow.setTimestamp(4, afterReceivedDate);
+            selectWindow.setLong(5, afterId);
+            selectWindow.setInt(6, windowSize);
+            int fetched = 0;
+            try (ResultSet rs = selectWindow.executeQuery()) {
+                while (rs.next()) {
+                    fetched++;
+                    afterId = rs.getLong(1);
+                    afterReceivedDate = rs.getTimestamp(2);
+                    if (remaining > 0) {
+                        remaining -= Math.min(remaining, rs.getInt(3));
+                    }
+                }
+            }
+            if (fetched < windowSize) {
+                break;
+            }
+            windowSize = Math.min(windowSize * 2, MAX_WINDOW_SIZE);
+        }
+        return remaining;
+    }
+}
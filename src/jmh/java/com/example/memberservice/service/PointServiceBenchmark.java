@@ -0,0 +1,63 @@
+package com.example.memberservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.memberservice.entity.PointRecord;
+
+/**
+ * The FIFO allocation loop of redeemPoints over in-memory record lists of increasing size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointServiceBenchmark {
+
+    private static final int POINTS_PER_RECORD = 10;
+
+    @Param({ "100", "10000" })
+    private int recordCount;
+
+    @Param({ "15", "5000" })
+    private int pointsToRedeem;
+
+    private List<PointRecord> records;
+
+    @Setup
+    public void setUp() {
+        records = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            PointRecord record = new PointRecord();
+            record.setPoints(POINTS_PER_RECORD);
+            record.setRemainingPoints(POINTS_PER_RECORD);
+            records.add(record);
+        }
+    }
+
+    @Benchmark
+    public int allocateFifo() {
+        int shortfall = PointService.allocateFifo(records, pointsToRedeem);
+        // restore only the records the allocation consumed
+        int touched = Math.min(records.size(), (pointsToRedeem + POINTS_PER_RECORD - 1) / POINTS_PER_RECORD);
+        for (int i = 0; i < touched; i++) {
+            records.get(i).setRemainingPoints(POINTS_PER_RECORD);
+        }
+        return shortfall;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.memberservice.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+/**
+ * Token issuing and validation. verifierPerCall is the original per-request verifier construction,
+ * kept as the baseline for the shared verifier and the cached principal lookup used by JwtFilter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private JwtUtils jwtUtils;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(10_000);
+        accessToken = jwtUtils.createAccessToken("benchmark@example.com");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtils.createAccessToken("benchmark@example.com");
+    }
+
+    @Benchmark
+    public DecodedJWT verifierPerCall() {
+        // the path JwtUtils.validateToken used before the verifier was shared
+        Algorithm algorithm = Algorithm.HMAC256("yourSuperSecretKey123!@#$");
+        return JWT.require(algorithm).withIssuer("member-service").build().verify(accessToken);
+    }
+
+    @Benchmark
+    public DecodedJWT sharedVerifier() {
+        return jwtUtils.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedPrincipal() {
+        return jwtUtils.resolvePrincipal(accessToken);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.memberservice.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Phone normalization and validation over the input shapes seen in partner imports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhoneNumberUtilsBenchmark {
+
+    private final String[] rawNumbers = {
+            "081-234-5678",
+            "+66 81 234 5678",
+            "66812345678",
+            "(08) 1234 5678",
+            "+66812345678"
+    };
+    private final String[] normalizedNumbers = {
+            "+66812345678",
+            "+6681234567",
+            "0812345678",
+            "+66812345678"
+    };
+
+    @Benchmark
+    public void normalize(Blackhole blackhole) {
+        for (String raw : rawNumbers) {
+            blackhole.consume(PhoneNumberUtils.normalize(raw));
+        }
+    }
+
+    @Benchmark
+    public void isValid(Blackhole blackhole) {
+        for (String normalized : normalizedNumbers) {
+            blackhole.consume(PhoneNumberUtils.isValid(normalized));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.memberservice.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.example.memberservice.exception.QueryBudgetExceededException;
+import com.example.memberservice.utils.SqlFingerprint;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Counts and times the JDBC statements of the current thread's request scope, opened per controller method
+ * by QueryBudgetInterceptor. Every statement is recorded in the "db.statement" timer tagged with the endpoint
+ * ("none" outside a scope) and logged with its fingerprint when slower than the slow-statement threshold.
+ * A scope that issues more statements than its endpoint's budget is logged with its most repeated statement,
+ * or fails on the first statement over the budget when member.query-budget.fail-on-exceed is set.
+ */
+@Component
+public class QueryBudgetTracker {
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetTracker.class);
+    private static final String NO_ENDPOINT = "none";
+
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+    private final MeterRegistry meterRegistry;
+    private final Timer unscopedTimer;
+    private final Map<String, Integer> endpointBudgets;
+    private final int defaultBudget;
+    private final boolean failOnExceed;
+    private final long slowStatementNanos;
+
+    public QueryBudgetTracker(MeterRegistry meterRegistry, Environment environment,
+            @Value("${member.query-budget.default-statements:25}") int defaultBudget,
+            @Value("${member.query-budget.fail-on-exceed:false}") boolean failOnExceed,
+            @Value("${member.query-budget.slow-statement-millis:100}") long slowStatementMillis) {
+        this.meterRegistry = meterRegistry;
+        this.unscopedTimer = statementTimer(NO_ENDPOINT);
+        this.endpointBudgets = Binder.get(environment)
+                .bind("member.query-budget.endpoints", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+        this.defaultBudget = defaultBudget;
+        this.failOnExceed = failOnExceed;
+        this.slowStatementNanos = TimeUnit.MILLISECONDS.toNanos(slowStatementMillis);
+    }
+
+    /**
+     * Opens the statement scope of the current thread for the endpoint, e.g. "MemberController.getMemberWithPoints",
+     * replacing any scope that was left open.
+     */
+    public void begin(String endpoint) {
+        currentScope.set(new Scope(endpoint, endpointBudgets.getOrDefault(endpoint, defaultBudget), statementTimer(endpoint)));
+    }
+
+    /**
+     * Closes the current thread's scope and records its statement count.
+     *
+     * @return the scope's usage, or null when no scope was open
+     */
+    public Usage end() {
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            return null;
+        }
+        currentScope.remove();
+
+        DistributionSummary.builder("db.request.statements")
+                .description("JDBC statements issued per request")
+                .tag("endpoint", scope.endpoint)
+                .register(meterRegistry)
+                .record(scope.statements);
+        if (scope.statements > scope.budget) {
+            Counter.builder("db.query.budget.exceeded")
+                    .description("Requests that issued more statements than their budget")
+                    .tag("endpoint", scope.endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            if (!failOnExceed) {
+                Map.Entry<String, Integer> repeated = scope.mostRepeated();
+                logger.warn("{} issued {} statements, budget {}; most repeated ({}x): {}",
+                        scope.endpoint, scope.statements, scope.budget, repeated.getValue(), SqlFingerprint.of(repeated.getKey()));
+            }
+        }
+        return new Usage(scope.endpoint, scope.statements, scope.elapsedNanos);
+    }
+
+    /**
+     * Called by StatementTrackingDataSource before a statement executes; fails it when it would exceed the
+     * scope's budget and fail-on-exceed is set.
+     */
+    void beforeStatement(String sql) {
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            return;
+        }
+        scope.statements++;
+        scope.countsBySql.merge(sql, 1, Integer::sum);
+        if (failOnExceed && scope.statements > scope.budget) {
+            throw new QueryBudgetExceededException(scope.endpoint + " exceeded its budget of " + scope.budget
+                    + " statements with: " + SqlFingerprint.of(sql));
+        }
+    }
+
+    void afterStatement(String sql, long elapsedNanos) {
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.elapsedNanos += elapsedNanos;
+            scope.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        } else {
+            unscopedTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        if (elapsedNanos >= slowStatementNanos) {
+            logger.warn("Slow statement {} ms [{}]: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    scope != null ? scope.endpoint : NO_ENDPOINT, SqlFingerprint.of(sql));
+        }
+    }
+
+    private Timer statementTimer(String endpoint) {
+        return Timer.builder("db.statement")
+                .description("JDBC statement execution time")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    public record Usage(String endpoint, int statements, long elapsedNanos) {
+    }
+
+    private static class Scope {
+        private final String endpoint;
+        private final int budget;
+        private final Timer timer;
+        // keyed by the SQL string as prepared; the fingerprint is only computed when a scope is reported
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+        private int statements;
+        private long elapsedNanos;
+
+        private Scope(String endpoint, int budget, Timer timer) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+            this.timer = timer;
+        }
+
+        private Map.Entry<String, Integer> mostRepeated() {
+            return countsBySql.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow();
+        }
+    }
+}
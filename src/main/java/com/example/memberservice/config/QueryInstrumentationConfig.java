@@ -0,0 +1,83 @@
+package com.example.memberservice.config;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.memberservice.filter.QueryBudgetInterceptor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Statement counting and timing per controller method (see QueryBudgetTracker) and the Hibernate
+ * session factory statistics, published as "hibernate.*" meters. Entity and collection fetches are the
+ * lazy loads behind N+1 queries; the statistics are only collected with hibernate.generate_statistics.
+ */
+@Configuration
+public class QueryInstrumentationConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+
+    public QueryInstrumentationConfig(QueryBudgetInterceptor queryBudgetInterceptor) {
+        this.queryBudgetInterceptor = queryBudgetInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryBudgetInterceptor);
+    }
+
+    // static so the post-processor is registered without creating this configuration and its interceptor early
+    @Bean
+    public static BeanPostProcessor statementTrackingDataSourcePostProcessor(ObjectProvider<QueryBudgetTracker> queryBudgetTracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementTrackingDataSource)) {
+                    return new StatementTrackingDataSource(dataSource, queryBudgetTracker);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            FunctionCounter.builder("hibernate.statements", statistics, Statistics::getPrepareStatementCount)
+                    .description("JDBC statements prepared by Hibernate")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.query.executions", statistics, Statistics::getQueryExecutionCount)
+                    .description("HQL and SQL queries executed")
+                    .register(registry);
+            TimeGauge.builder("hibernate.query.executions.max", statistics, TimeUnit.MILLISECONDS, Statistics::getQueryExecutionMaxTime)
+                    .description("Slowest query execution so far")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.entities.loads", statistics, Statistics::getEntityLoadCount)
+                    .description("Entities loaded")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.entities.fetches", statistics, Statistics::getEntityFetchCount)
+                    .description("Entities fetched by a separate statement")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.collections.fetches", statistics, Statistics::getCollectionFetchCount)
+                    .description("Collections fetched by a separate statement")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.flushes", statistics, Statistics::getFlushCount)
+                    .description("Session flushes")
+                    .register(registry);
+        };
+    }
+}
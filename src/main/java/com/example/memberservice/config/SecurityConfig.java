@@ -1,13 +1,18 @@
 package com.example.memberservice.config;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -30,8 +35,12 @@ public class SecurityConfig {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(authorize -> authorize
-                .requestMatchers("/api/auth/**", "/actuator/**").permitAll()
+                .requestMatchers("/api/auth/**", "/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                // metrics expose cache and query statistics
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/api/members/register").permitAll()
+                // earning is a point-of-sale call: member tokens from /api/auth carry role USER and are refused
+                .requestMatchers(HttpMethod.POST, "/api/points/earn", "/api/points/earn/batch").hasRole("POS")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
@@ -41,8 +50,22 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * New hashes are stored as {bcrypt} with the tuned cost; hashes written before the prefix existed are
+     * matched as plain BCrypt and reported for upgrade, so they are rehashed on the next login.
+     * A new algorithm can be introduced by registering it here and switching the encoding id.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${member.security.password.bcrypt-strength:0}") int bcryptStrength,
+            @Value("${member.security.password.target-hash-millis:100}") long targetHashMillis,
+            @Value("${member.security.password.min-strength:10}") int minStrength,
+            @Value("${member.security.password.max-strength:14}") int maxStrength) {
+        TunedBCryptPasswordEncoder bcrypt = bcryptStrength > 0
+                ? TunedBCryptPasswordEncoder.withStrength(bcryptStrength)
+                : TunedBCryptPasswordEncoder.calibrated(targetHashMillis, minStrength, maxStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 }
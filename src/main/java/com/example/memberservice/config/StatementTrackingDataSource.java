@@ -0,0 +1,92 @@
+package com.example.memberservice.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Hands out connections whose statements report every execute call to QueryBudgetTracker, so JPA and
+ * JdbcTemplate statements are counted and timed alike. A JDBC batch counts as one statement. The tracker
+ * is looked up on the first connection, so wrapping the pool from a post-processor does not create the
+ * tracker and its meter registry before the other post-processors are registered.
+ */
+public class StatementTrackingDataSource extends DelegatingDataSource {
+    private static final String UNNAMED_BATCH = "<batch>";
+
+    private final ObjectProvider<QueryBudgetTracker> trackerProvider;
+    private volatile QueryBudgetTracker tracker;
+
+    public StatementTrackingDataSource(DataSource target, ObjectProvider<QueryBudgetTracker> trackerProvider) {
+        super(target);
+        this.trackerProvider = trackerProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackingConnection(super.getConnection(username, password));
+    }
+
+    private Connection trackingConnection(Connection connection) {
+        QueryBudgetTracker current = tracker();
+        if (current == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                        return trackingStatement(statement, method.getReturnType(), sql, current);
+                    }
+                    return result;
+                });
+    }
+
+    private Object trackingStatement(Statement statement, Class<?> statementType, String preparedSql, QueryBudgetTracker current) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { statementType },
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    String sql = args != null && args.length > 0 && args[0] instanceof String executed ? executed
+                            : preparedSql != null ? preparedSql : UNNAMED_BATCH;
+                    current.beforeStatement(sql);
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        current.afterStatement(sql, System.nanoTime() - start);
+                    }
+                });
+    }
+
+    private QueryBudgetTracker tracker() {
+        QueryBudgetTracker current = tracker;
+        if (current == null) {
+            current = trackerProvider.getIfAvailable();
+            tracker = current;
+        }
+        return current;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.memberservice.config;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt encoder whose cost is either configured or calibrated against a target hash time. Stored hashes
+ * with a lower cost are always reported for upgrade; with an explicitly configured cost, higher ones are
+ * too, so the fleet can be moved to a cheaper cost. A calibrated cost only ever upgrades, otherwise
+ * instances on different hardware would keep rehashing each other's output.
+ */
+public class TunedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final Logger logger = LoggerFactory.getLogger(TunedBCryptPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final int CALIBRATION_STRENGTH = 8;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int strength;
+    private final boolean downgradeAllowed;
+
+    private TunedBCryptPasswordEncoder(int strength, boolean downgradeAllowed) {
+        super(strength);
+        this.strength = strength;
+        this.downgradeAllowed = downgradeAllowed;
+    }
+
+    public static TunedBCryptPasswordEncoder withStrength(int strength) {
+        return new TunedBCryptPasswordEncoder(strength, true);
+    }
+
+    /**
+     * Times a cheap cost on this machine and extrapolates, each cost step doubling the work, to the cost
+     * closest to the target, clamped to [minStrength, maxStrength].
+     */
+    public static TunedBCryptPasswordEncoder calibrated(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration");
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            probe.encode("calibration");
+        }
+        double probeMillis = Math.max((System.nanoTime() - startNanos) / 1e6 / CALIBRATION_ROUNDS, 0.01);
+        int strength = CALIBRATION_STRENGTH + (int) Math.round(Math.log(targetMillis / probeMillis) / Math.log(2));
+        strength = Math.max(minStrength, Math.min(maxStrength, strength));
+        logger.info("BCrypt cost calibrated to {} (cost {} took {}ms, target {}ms)", strength, CALIBRATION_STRENGTH,
+                String.format("%.1f", probeMillis), targetMillis);
+        return new TunedBCryptPasswordEncoder(strength, false);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        int storedStrength = Integer.parseInt(matcher.group(1));
+        return storedStrength < strength || (downgradeAllowed && storedStrength > strength);
+    }
+}
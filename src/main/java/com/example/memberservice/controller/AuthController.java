@@ -1,19 +1,24 @@
 package com.example.memberservice.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.memberservice.dto.ApiResponse;
 import com.example.memberservice.dto.LoginRequest;
 import com.example.memberservice.dto.LoginResponse;
+import com.example.memberservice.dto.RefreshTokenRequest;
 import com.example.memberservice.service.AuthService;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthService authService;
 
     public AuthController(AuthService authService) {
@@ -24,4 +29,17 @@ public class AuthController {
     public ResponseEntity<ApiResponse<LoginResponse>> login(@RequestBody LoginRequest loginRequest) {
         return ResponseEntity.ok(ApiResponse.ok(authService.login(loginRequest)));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<LoginResponse>> refresh(@RequestBody RefreshTokenRequest refreshTokenRequest) {
+        return ResponseEntity.ok(ApiResponse.ok(authService.refresh(refreshTokenRequest)));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody RefreshTokenRequest refreshTokenRequest) {
+        String accessToken = authorization != null && authorization.startsWith(BEARER_PREFIX) ? authorization.substring(BEARER_PREFIX.length()) : null;
+        authService.logout(accessToken, refreshTokenRequest);
+        return ResponseEntity.ok(ApiResponse.ok(null));
+    }
 }
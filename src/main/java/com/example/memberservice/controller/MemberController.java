@@ -1,22 +1,43 @@
 package com.example.memberservice.controller;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import com.example.memberservice.dto.RegisterRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.memberservice.dto.ApiResponse;
+import com.example.memberservice.dto.BatchRegisterResponse;
+import com.example.memberservice.dto.CursorPage;
 import com.example.memberservice.dto.MemberWithPointsDto;
+import com.example.memberservice.dto.PointTransactionDto;
+import com.example.memberservice.dto.PointTransactionSummaryDto;
+import com.example.memberservice.service.MemberBatchRegistrationService;
+import com.example.memberservice.service.MemberExportService;
 import com.example.memberservice.service.MemberService;
+import com.example.memberservice.service.PointHistoryService;
 
 @RestController
 @RequestMapping("/api/members")
 public class MemberController {
     private final MemberService memberService;
+    private final MemberBatchRegistrationService memberBatchRegistrationService;
+    private final MemberExportService memberExportService;
+    private final PointHistoryService pointHistoryService;
 
-    public MemberController(MemberService memberService) {
+    public MemberController(MemberService memberService, MemberBatchRegistrationService memberBatchRegistrationService, MemberExportService memberExportService,
+            PointHistoryService pointHistoryService) {
         this.memberService = memberService;
+        this.memberBatchRegistrationService = memberBatchRegistrationService;
+        this.memberExportService = memberExportService;
+        this.pointHistoryService = pointHistoryService;
     }
 
     @GetMapping
@@ -24,16 +45,54 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponse.ok(memberService.getAllMembersWithPoints(pageable)));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<MemberWithPointsDto>>> scrollMembersWithPoints(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(ApiResponse.ok(memberService.getMembersWithPointsAfter(cursor, size)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@RequestParam(defaultValue = "ndjson") String format) {
+        MemberExportService.Format exportFormat = MemberExportService.Format.parse(format);
+        StreamingResponseBody body = outputStream -> memberExportService.export(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<MemberWithPointsDto>> getMemberWithPoints(@PathVariable Long id) {
         return ResponseEntity.ok(ApiResponse.ok(memberService.getMemberWithPoints(id)));
     }
 
+    @GetMapping("/{id}/transactions")
+    public ResponseEntity<ApiResponse<CursorPage<PointTransactionDto>>> getTransactions(@PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(name = "type", required = false) List<String> types) {
+        return ResponseEntity.ok(ApiResponse.ok(pointHistoryService.getTransactions(id, cursor, size, types)));
+    }
+
+    @GetMapping("/{id}/transactions/summary")
+    public ResponseEntity<ApiResponse<List<PointTransactionSummaryDto>>> getTransactionSummary(@PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "month") String period) {
+        return ResponseEntity.ok(ApiResponse.ok(pointHistoryService.getSummary(id, from, to, PointHistoryService.SummaryPeriod.parse(period))));
+    }
+
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<MemberWithPointsDto>> registerMember(@RequestBody RegisterRequest registerRequest) {
         return ResponseEntity.ok(ApiResponse.ok(memberService.registerMember(registerRequest)));
     }
 
+    @PostMapping("/register/batch")
+    public ResponseEntity<ApiResponse<BatchRegisterResponse>> registerMembers(@RequestBody List<RegisterRequest> registerRequests) {
+        return ResponseEntity.ok(ApiResponse.ok(memberBatchRegistrationService.registerMembers(registerRequests)));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteMember(@PathVariable Long id) {
         memberService.deleteMember(id);
@@ -0,0 +1,41 @@
+package com.example.memberservice.controller;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.memberservice.dto.ApiResponse;
+import com.example.memberservice.dto.BatchEarnResponse;
+import com.example.memberservice.dto.EarnPointsRequest;
+import com.example.memberservice.service.PointBatchEarnService;
+import com.example.memberservice.service.PointService;
+
+@RestController
+@RequestMapping("/api/points")
+public class PointController {
+    private final PointService pointService;
+    private final PointBatchEarnService pointBatchEarnService;
+
+    public PointController(PointService pointService, PointBatchEarnService pointBatchEarnService) {
+        this.pointService = pointService;
+        this.pointBatchEarnService = pointBatchEarnService;
+    }
+
+    // the idempotency key is only honored by the batch endpoint
+    @PostMapping("/earn")
+    public CompletableFuture<ResponseEntity<ApiResponse<Void>>> earnPoints(@RequestBody EarnPointsRequest earnRequest) {
+        return pointService.earnPointsAsync(earnRequest.getMemberId(), earnRequest.getPoints(), earnRequest.getSource(),
+                        earnRequest.getDescription(), earnRequest.getExpireAt())
+                .thenApply(ignored -> ResponseEntity.ok(ApiResponse.ok(null)));
+    }
+
+    @PostMapping("/earn/batch")
+    public ResponseEntity<ApiResponse<BatchEarnResponse>> earnPointsBatch(@RequestBody List<EarnPointsRequest> earnRequests) {
+        return ResponseEntity.ok(ApiResponse.ok(pointBatchEarnService.earnAll(earnRequests)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.memberservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AvailablePointsCheckDto {
+    private Long memberId;
+    private Integer recordedPoints;
+    private Integer derivedPoints;
+
+    public boolean hasDrift() {
+        return recordedPoints == null || !recordedPoints.equals(derivedPoints);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.memberservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BatchEarnResponse {
+    private int total;
+    private int applied;
+    private int duplicates;
+    private int failed;
+    private List<BatchEarnResult> results;
+}
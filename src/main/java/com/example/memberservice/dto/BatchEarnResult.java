@@ -0,0 +1,31 @@
+package com.example.memberservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BatchEarnResult {
+    public enum Status {
+        APPLIED,
+        DUPLICATE,
+        FAILED
+    }
+
+    private int index;
+    private String idempotencyKey;
+    private Status status;
+    private String error;
+
+    public static BatchEarnResult applied(int index, String idempotencyKey) {
+        return new BatchEarnResult(index, idempotencyKey, Status.APPLIED, null);
+    }
+
+    public static BatchEarnResult duplicate(int index, String idempotencyKey) {
+        return new BatchEarnResult(index, idempotencyKey, Status.DUPLICATE, null);
+    }
+
+    public static BatchEarnResult failed(int index, String idempotencyKey, String error) {
+        return new BatchEarnResult(index, idempotencyKey, Status.FAILED, error);
+    }
+}
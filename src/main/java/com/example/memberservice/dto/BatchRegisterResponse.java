@@ -0,0 +1,15 @@
+package com.example.memberservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BatchRegisterResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchRegisterResult> results;
+}
@@ -0,0 +1,22 @@
+package com.example.memberservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BatchRegisterResult {
+    private int index;
+    private String email;
+    private boolean success;
+    private Long memberId;
+    private String error;
+
+    public static BatchRegisterResult succeeded(int index, String email, Long memberId) {
+        return new BatchRegisterResult(index, email, true, memberId, null);
+    }
+
+    public static BatchRegisterResult failed(int index, String email, String error) {
+        return new BatchRegisterResult(index, email, false, null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.memberservice.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class EarnPointsRequest {
+    private Long memberId;
+    private Integer points;
+    private String source;
+    private String description;
+    private LocalDateTime expireAt;
+    private String idempotencyKey;
+}
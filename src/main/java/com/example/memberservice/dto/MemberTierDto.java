@@ -0,0 +1,15 @@
+package com.example.memberservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A member's current level and available points, as read by TierEvaluationService.
+ */
+@Data
+@AllArgsConstructor
+public class MemberTierDto {
+    private Long memberId;
+    private Long memberLevelId;
+    private Integer availablePoints;
+}
@@ -0,0 +1,16 @@
+package com.example.memberservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Sum of a member's transactions not yet folded into the PointBalance snapshot, per balance column.
+ */
+@Data
+@AllArgsConstructor
+public class PointBalanceDeltaDto {
+    private Long totalPoints;
+    private Long usedPoints;
+    private Long expiredPoints;
+    private Long availablePoints;
+}
@@ -0,0 +1,16 @@
+package com.example.memberservice.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PointTransactionDto {
+    private Long transactionId;
+    private String type;
+    private Integer points;
+    private String description;
+    private LocalDateTime transactionDate;
+}
@@ -0,0 +1,18 @@
+package com.example.memberservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Points and transaction count of one type within one period; day is null for monthly periods.
+ */
+@Data
+@AllArgsConstructor
+public class PointTransactionSummaryDto {
+    private Integer year;
+    private Integer month;
+    private Integer day;
+    private String type;
+    private Long points;
+    private Long transactionCount;
+}
@@ -0,0 +1,8 @@
+package com.example.memberservice.dto;
+
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
@@ -5,20 +5,24 @@ import java.time.LocalDate;
 import com.example.memberservice.common.Auditable;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Entity
+@Table(indexes = @Index(name = "idx_member_email", columnList = "email"))
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class Member extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     
     private String firstName;
@@ -27,7 +31,7 @@ public class Member extends Auditable {
     private String email;
     private LocalDate dateOfBirth;
 
-    @OneToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_level_id")
     private MemberLevel memberLevel;
 }
@@ -1,8 +1,10 @@
 package com.example.memberservice.entity;
 
 import com.example.memberservice.common.Auditable;
+import com.example.memberservice.service.MemberLevelCacheInvalidationListener;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -12,6 +14,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Entity
+@EntityListeners(MemberLevelCacheInvalidationListener.class)
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class MemberLevel extends Auditable {
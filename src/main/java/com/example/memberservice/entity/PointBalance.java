@@ -2,14 +2,18 @@ package com.example.memberservice.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.example.memberservice.common.Auditable;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Version;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
@@ -18,7 +22,7 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(callSuper = false)
 public class PointBalance extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     
     @OneToOne
@@ -28,5 +32,25 @@ public class PointBalance extends Auditable {
     private Integer totalPoints;
     private Integer usedPoints;
     private Integer expiredPoints;
+
+    /**
+     * Materialized SUM of remainingPoints over the member's PointRecords, maintained in the same
+     * transaction as every earn, redeem and expiry. Null on rows created before the column existed
+     * until they are touched or repaired by PointBalanceVerificationService.
+     */
+    private Integer availablePoints;
+
+    /**
+     * Never later than the earliest expiry among the member's records with points left: lowered by earns,
+     * recomputed by PointExpiryService and PointLedgerCompactor, left as is by redemptions. Until it has passed,
+     * availablePoints holds no expired points, so reads only look at expired records after it. With the ledger
+     * enabled, earns reach it when PointLedgerCompactor folds them.
+     */
+    private LocalDateTime nextExpiryDate;
     private LocalDateTime lastUpdated;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,27 @@
+package com.example.memberservice.entity;
+
+import com.example.memberservice.common.Auditable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Client-supplied key of an applied batch earn row; the primary key rejects a second application.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_point_earn_idempotency_key_created_at", columnList = "created_at"))
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class PointEarnIdempotencyKey extends Auditable {
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private Long memberId;
+}
@@ -0,0 +1,48 @@
+package com.example.memberservice.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.memberservice.common.Auditable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Checkpoint of a bulk expiry run. The (lastExpireDate, lastRecordId) position is advanced in the same
+ * transaction as each expired chunk, so an interrupted run resumes right after the last committed chunk.
+ * A run without a lastExpireDate starts from the earliest expired record.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_point_expiry_run_status", columnList = "status, id"))
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class PointExpiryRun extends Auditable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDateTime cutoff;
+    private LocalDateTime lastExpireDate;
+    private Long lastRecordId;
+    private Long recordsExpired;
+    private Long pointsExpired;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED;
+    }
+}
@@ -2,18 +2,29 @@ package com.example.memberservice.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.example.memberservice.common.Auditable;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_point_record_member_expire", columnList = "member_id, expire_date, remaining_points"),
+        @Index(name = "idx_point_record_expire_date", columnList = "expire_date"),
+        @Index(name = "idx_point_record_member_received", columnList = "member_id, received_date, id, remaining_points, expire_date")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class PointRecord extends Auditable {
@@ -30,4 +41,9 @@ public class PointRecord extends Auditable {
     private LocalDateTime receivedDate;
     private LocalDateTime expireDate;
     private String source;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
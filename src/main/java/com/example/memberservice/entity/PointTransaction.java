@@ -2,18 +2,27 @@ package com.example.memberservice.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.example.memberservice.common.Auditable;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_point_transaction_member_date", columnList = "member_id, transaction_date"),
+        @Index(name = "idx_point_transaction_folded_member", columnList = "folded, member_id, id")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class PointTransaction extends Auditable {
@@ -29,4 +38,13 @@ public class PointTransaction extends Auditable {
     private String type;
     private String description;
     private LocalDateTime transactionDate;
+
+    /**
+     * Whether the points are already reflected in the member's PointBalance. Eager writes update the
+     * balance in the same transaction and insert folded rows; ledger-mode writes insert unfolded deltas
+     * that PointLedgerCompactor folds into the balance snapshot later.
+     */
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private boolean folded = true;
 }
@@ -0,0 +1,29 @@
+package com.example.memberservice.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.memberservice.common.Auditable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_token_created_at", columnList = "created_at")
+})
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class RevokedToken extends Auditable {
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,7 @@
+package com.example.memberservice.exception;
+
+public class InvalidEarnRequestException extends RuntimeException {
+    public InvalidEarnRequestException(String message) {
+        super(message);
+    }
+}
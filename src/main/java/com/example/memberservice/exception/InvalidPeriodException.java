@@ -0,0 +1,7 @@
+package com.example.memberservice.exception;
+
+public class InvalidPeriodException extends RuntimeException {
+    public InvalidPeriodException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.memberservice.exception;
+
+public class PointRedemptionConflictException extends RuntimeException {
+    public PointRedemptionConflictException(Long memberId, Throwable cause) {
+        super("Concurrent point update for member " + memberId + ", please retry", cause);
+    }
+}
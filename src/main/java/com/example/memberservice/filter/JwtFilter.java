@@ -13,8 +13,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.memberservice.utils.JwtPrincipal;
 import com.example.memberservice.utils.JwtUtils;
+import com.example.memberservice.utils.TokenDenylist;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -32,9 +33,11 @@ public class JwtFilter extends OncePerRequestFilter {
     private final String AUTHENTICATION_SCHEME = "Bearer ";
 
     private final JwtUtils jwtUtils;
+    private final TokenDenylist tokenDenylist;
 
-    public JwtFilter(JwtUtils jwtUtils) {
+    public JwtFilter(JwtUtils jwtUtils, TokenDenylist tokenDenylist) {
         this.jwtUtils = jwtUtils;
+        this.tokenDenylist = tokenDenylist;
     }
 
     @Override
@@ -51,16 +54,16 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         jwtToken = authHeader.substring(AUTHENTICATION_SCHEME.length());
-        DecodedJWT decodedAccessToken = jwtUtils.validateToken(jwtToken);
+        JwtPrincipal principal = jwtUtils.resolvePrincipal(jwtToken);
 
-        if (decodedAccessToken == null) {
+        if (principal == null || tokenDenylist.isRevoked(principal.getTokenId())) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        username = jwtUtils.getUsernameFromToken(decodedAccessToken);
-        tokenType = jwtUtils.getClaimFromToken(decodedAccessToken, "type");
-        role = jwtUtils.getClaimFromToken(decodedAccessToken, "role");
+        username = principal.getSubject();
+        tokenType = principal.getType();
+        role = principal.getRole();
 
         if (tokenType == null || !tokenType.equals("ACCESS")) {
             filterChain.doFilter(request, response);
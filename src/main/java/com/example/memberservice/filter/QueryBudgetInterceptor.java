@@ -0,0 +1,43 @@
+package com.example.memberservice.filter;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.example.memberservice.config.QueryBudgetTracker;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opens a QueryBudgetTracker scope named after the controller method, e.g. "MemberController.getMemberWithPoints",
+ * for the request thread. Work that continues on another thread after the handler returns, such as a streamed
+ * export or a pipelined earn, is not attributed to the endpoint.
+ */
+@Component
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+    private final QueryBudgetTracker queryBudgetTracker;
+
+    public QueryBudgetInterceptor(QueryBudgetTracker queryBudgetTracker) {
+        this.queryBudgetTracker = queryBudgetTracker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST && handler instanceof HandlerMethod handlerMethod) {
+            queryBudgetTracker.begin(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        queryBudgetTracker.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        queryBudgetTracker.end();
+    }
+}
@@ -3,11 +3,23 @@ package com.example.memberservice.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.memberservice.entity.Account;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByUsername(String username);
+
+    /**
+     * Replaces the hash only if it is still the one the new hash was derived from, so a rehash never
+     * overwrites a password change that happened in between.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Account a SET a.password = :newPassword WHERE a.id = :id AND a.password = :oldPassword")
+    int updatePasswordIfUnchanged(Long id, String oldPassword, String newPassword);
 }
@@ -1,13 +1,101 @@
 package com.example.memberservice.repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+
+import com.example.memberservice.dto.MemberTierDto;
+import com.example.memberservice.dto.MemberWithPointsDto;
 import com.example.memberservice.entity.Member;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    /**
+     * Available points of {@code m}: the PointBalance snapshot plus the member's unfolded ledger deltas, less the
+     * points of records that expired since the last PointExpiryService run. Those are only looked up once the
+     * balance's nextExpiryDate has passed, and the PointRecord SUM replaces the snapshot only for balances whose
+     * availablePoints has not been materialized yet. Needs the joins of {@link #WITH_POINTS_FROM}; binds {@code :now}.
+     */
+    String AVAILABLE_POINTS = "COALESCE(pb.availablePoints + CAST(COALESCE(d.availableDelta, 0) AS Integer) "
+            + "- CASE WHEN pb.nextExpiryDate <= :now THEN CAST((SELECT COALESCE(SUM(pr.remainingPoints), 0) FROM PointRecord pr "
+            + "WHERE pr.member = m AND pr.expireDate <= :now AND pr.remainingPoints > 0) AS Integer) ELSE 0 END, "
+            + "CAST((SELECT COALESCE(SUM(pr.remainingPoints), 0) FROM PointRecord pr WHERE pr.member = m AND pr.expireDate > :now) AS Integer))";
+
+    /**
+     * Member {@code m} with its level {@code ml}, balance {@code pb} and unfolded ledger deltas {@code d}, summed
+     * once per member in a derived table.
+     */
+    String WITH_POINTS_FROM = "FROM Member m LEFT JOIN m.memberLevel ml LEFT JOIN PointBalance pb ON pb.member = m "
+            + "LEFT JOIN (SELECT t.member.id AS memberId, SUM(CASE WHEN t.type = 'EXPIRE' THEN 0 ELSE t.points END) AS totalDelta, "
+            + "SUM(t.points) AS availableDelta FROM PointTransaction t WHERE t.folded = false GROUP BY t.member.id) d ON d.memberId = m.id ";
+
+    /**
+     * Selects members together with their level, total and available points as MemberWithPointsDto rows.
+     */
+    String WITH_POINTS_SELECT = "SELECT new com.example.memberservice.dto.MemberWithPointsDto("
+            + "m.id, m.firstName, m.lastName, m.email, "
+            + "COALESCE(pb.totalPoints, 0) + CAST(COALESCE(d.totalDelta, 0) AS Integer), "
+            + AVAILABLE_POINTS + ", "
+            + "CAST(ml.level AS String)) "
+            + WITH_POINTS_FROM;
+
+    /**
+     * Selects the level and available points of members with a balance as MemberTierDto rows.
+     */
+    String TIER_SELECT = "SELECT new com.example.memberservice.dto.MemberTierDto(m.id, ml.id, " + AVAILABLE_POINTS + ") "
+            + WITH_POINTS_FROM + "WHERE pb.id IS NOT NULL ";
+
     Optional<Member> findByEmail(String email);
     List<Member> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(String firstName, String lastName);
-}
\ No newline at end of file
+
+    @Query("SELECT m.email FROM Member m WHERE m.email IN :emails")
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Loads a page of members together with their level, balance and available points in a single
+     * statement (plus the page count query), instead of one balance and one SUM lookup per row.
+     */
+    @Query(value = WITH_POINTS_SELECT, countQuery = "SELECT COUNT(m) FROM Member m")
+    Page<MemberWithPointsDto> findAllWithPoints(LocalDateTime now, Pageable pageable);
+
+    /**
+     * Seeks past {@code afterId} instead of using OFFSET, so every page costs the same regardless of depth
+     * and no count query is issued.
+     */
+    @Query(WITH_POINTS_SELECT + "WHERE m.id > :afterId ORDER BY m.id")
+    List<MemberWithPointsDto> findWithPointsAfter(Long afterId, LocalDateTime now, Limit limit);
+
+    /**
+     * Streams every member with points in id order over a forward-only cursor. Rows are DTOs, so nothing
+     * is attached to the persistence context; the caller must consume and close the stream inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(WITH_POINTS_SELECT + "ORDER BY m.id")
+    Stream<MemberWithPointsDto> streamAllWithPoints(LocalDateTime now);
+
+    @Query(TIER_SELECT + "AND m.id IN :memberIds")
+    List<MemberTierDto> findTiers(Collection<Long> memberIds, LocalDateTime now);
+
+    @Query(TIER_SELECT + "AND m.id > :fromId AND m.id <= :toId")
+    List<MemberTierDto> findTiersInRange(long fromId, long toId, LocalDateTime now);
+}
@@ -1,13 +1,48 @@
 package com.example.memberservice.repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.memberservice.dto.AvailablePointsCheckDto;
 import com.example.memberservice.entity.Member;
 import com.example.memberservice.entity.PointBalance;
 
 @Repository
 public interface PointBalanceRepository extends JpaRepository<PointBalance, Long> {
     Optional<PointBalance> findByMember(Member member);
+
+    /**
+     * Compares the recorded available points, snapshot plus unfolded ledger deltas, with the PointRecord SUM.
+     */
+    @Query("SELECT new com.example.memberservice.dto.AvailablePointsCheckDto(pb.member.id, "
+            + "pb.availablePoints + CAST((SELECT COALESCE(SUM(t.points), 0) FROM PointTransaction t WHERE t.folded = false AND t.member = pb.member) AS Integer), "
+            + "CAST((SELECT COALESCE(SUM(pr.remainingPoints), 0) FROM PointRecord pr WHERE pr.member = pb.member) AS Integer)) "
+            + "FROM PointBalance pb WHERE pb.member.id > :afterMemberId ORDER BY pb.member.id")
+    List<AvailablePointsCheckDto> checkAvailablePointsAfter(Long afterMemberId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PointBalance pb SET pb.availablePoints = "
+            + "(SELECT COALESCE(SUM(pr.remainingPoints), 0) FROM PointRecord pr WHERE pr.member = pb.member) "
+            + "- (SELECT COALESCE(SUM(t.points), 0) FROM PointTransaction t WHERE t.folded = false AND t.member = pb.member), "
+            + "pb.version = pb.version + 1 "
+            + "WHERE pb.member.id IN :memberIds")
+    int rederiveAvailablePoints(Collection<Long> memberIds);
+
+    /**
+     * Sets nextExpiryDate to the earliest expiry among the members' records with points left, null when none.
+     * Runs in the caller's transaction.
+     */
+    @Modifying
+    @Query("UPDATE PointBalance pb SET pb.nextExpiryDate = "
+            + "(SELECT MIN(pr.expireDate) FROM PointRecord pr WHERE pr.member = pb.member AND pr.remainingPoints > 0) "
+            + "WHERE pb.member.id IN :memberIds")
+    int refreshNextExpiryDates(Collection<Long> memberIds);
 }
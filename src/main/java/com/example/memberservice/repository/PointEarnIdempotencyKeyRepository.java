@@ -0,0 +1,24 @@
+package com.example.memberservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.memberservice.entity.PointEarnIdempotencyKey;
+
+@Repository
+public interface PointEarnIdempotencyKeyRepository extends JpaRepository<PointEarnIdempotencyKey, String> {
+    @Query("SELECT k.idempotencyKey FROM PointEarnIdempotencyKey k WHERE k.idempotencyKey IN :keys")
+    Set<String> findExistingKeys(Collection<String> keys);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PointEarnIdempotencyKey k WHERE k.createdAt < :before")
+    int deleteCreatedBefore(LocalDateTime before);
+}
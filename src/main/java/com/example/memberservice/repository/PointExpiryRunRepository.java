@@ -0,0 +1,20 @@
+package com.example.memberservice.repository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.example.memberservice.entity.PointExpiryRun;
+
+@Repository
+public interface PointExpiryRunRepository extends JpaRepository<PointExpiryRun, Long> {
+    Optional<PointExpiryRun> findFirstByStatusOrderByIdDesc(PointExpiryRun.Status status);
+
+    @Modifying
+    @Query("UPDATE PointExpiryRun r SET r.lastExpireDate = :lastExpireDate, r.lastRecordId = :lastRecordId, "
+            + "r.recordsExpired = r.recordsExpired + :records, r.pointsExpired = r.pointsExpired + :points WHERE r.id = :id")
+    int advance(Long id, LocalDateTime lastExpireDate, Long lastRecordId, long records, long points);
+}
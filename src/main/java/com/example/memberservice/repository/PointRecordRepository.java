@@ -2,6 +2,7 @@ package com.example.memberservice.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -11,10 +12,25 @@ import com.example.memberservice.entity.PointRecord;
 
 @Repository
 public interface PointRecordRepository extends JpaRepository<PointRecord, Long> {
-    @Query("SELECT pr FROM PointRecord pr WHERE pr.member = :member AND pr.remainingPoints > 0 AND pr.expireDate > :now ORDER BY pr.receivedDate ASC")
-    List<PointRecord> findAvailablePoints(Member member, LocalDateTime now);
+    /**
+     * The next window of the member's unexpired records with points left, oldest first, strictly after the
+     * (receivedDate, id) position. The leading receivedDate bound seeks into idx_point_record_member_received
+     * and the ordering follows it, so a window reads its own entries rather than the member's whole history.
+     */
+    @Query("SELECT pr FROM PointRecord pr WHERE pr.member = :member AND pr.remainingPoints > 0 AND pr.expireDate > :now "
+            + "AND pr.receivedDate >= :afterReceivedDate AND (pr.receivedDate > :afterReceivedDate OR pr.id > :afterId) "
+            + "ORDER BY pr.member.id, pr.receivedDate, pr.id")
+    List<PointRecord> findAvailablePointsAfter(Member member, LocalDateTime now, LocalDateTime afterReceivedDate, Long afterId, Limit limit);
 
-    List<PointRecord> findByExpireDateBefore(LocalDateTime now);
+    /**
+     * Points left on records that have expired but not yet been written off by PointExpiryService; they are
+     * still counted in the materialized available points until the next run.
+     */
+    @Query("SELECT COALESCE(SUM(pr.remainingPoints), 0) FROM PointRecord pr WHERE pr.member = :member AND pr.expireDate <= :now AND pr.remainingPoints > 0")
+    Integer sumExpiredRemainingPoints(Member member, LocalDateTime now);
+
+    @Query("SELECT COALESCE(SUM(pr.remainingPoints), 0) FROM PointRecord pr WHERE pr.member = :member")
+    Integer sumRemainingPoints(Member member);
 
     @Query("SELECT COALESCE(SUM(pr.remainingPoints), 0) FROM PointRecord pr WHERE pr.member = :member AND pr.expireDate > :now")
     Integer sumAvailablePoints(Member member, LocalDateTime now);
@@ -1,15 +1,59 @@
 package com.example.memberservice.repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import com.example.memberservice.entity.Member;
+import com.example.memberservice.dto.PointBalanceDeltaDto;
+import com.example.memberservice.dto.PointTransactionDto;
+import com.example.memberservice.dto.PointTransactionSummaryDto;
 import com.example.memberservice.entity.PointTransaction;
 
 @Repository
 public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
-    List<PointTransaction> findByMemberOrderByTransactionDateDesc(Member member);
-    List<PointTransaction> findByMemberAndTransactionDateBetween(Member member, LocalDateTime start, LocalDateTime end);
+    /**
+     * Unfolded ledger deltas of one member: earns and redemptions move the total, redemptions the used and
+     * expiries the expired points; all of them move the available points.
+     */
+    @Query("SELECT new com.example.memberservice.dto.PointBalanceDeltaDto("
+            + "COALESCE(SUM(CASE WHEN t.type = 'EXPIRE' THEN 0 ELSE t.points END), 0), "
+            + "COALESCE(SUM(CASE WHEN t.type = 'REDEEM' THEN -t.points ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN t.type = 'EXPIRE' THEN -t.points ELSE 0 END), 0), "
+            + "COALESCE(SUM(t.points), 0)) "
+            + "FROM PointTransaction t WHERE t.folded = false AND t.member.id = :memberId")
+    PointBalanceDeltaDto sumUnfolded(Long memberId);
+
+    /**
+     * Newest-first page of a member's transactions strictly before the (transactionDate, id) position,
+     * read along idx_point_transaction_member_date without joining Member.
+     */
+    @Query("SELECT new com.example.memberservice.dto.PointTransactionDto(t.id, t.type, t.points, t.description, t.transactionDate) "
+            + "FROM PointTransaction t WHERE t.member.id = :memberId "
+            + "AND (t.transactionDate < :beforeDate OR (t.transactionDate = :beforeDate AND t.id < :beforeId)) "
+            + "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<PointTransactionDto> findPageBefore(Long memberId, LocalDateTime beforeDate, Long beforeId, Limit limit);
+
+    @Query("SELECT new com.example.memberservice.dto.PointTransactionDto(t.id, t.type, t.points, t.description, t.transactionDate) "
+            + "FROM PointTransaction t WHERE t.member.id = :memberId AND t.type IN :types "
+            + "AND (t.transactionDate < :beforeDate OR (t.transactionDate = :beforeDate AND t.id < :beforeId)) "
+            + "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<PointTransactionDto> findPageBeforeByTypes(Long memberId, Collection<String> types, LocalDateTime beforeDate, Long beforeId, Limit limit);
+
+    @Query("SELECT new com.example.memberservice.dto.PointTransactionSummaryDto("
+            + "YEAR(t.transactionDate), MONTH(t.transactionDate), CAST(NULL AS Integer), t.type, SUM(t.points), COUNT(t)) "
+            + "FROM PointTransaction t WHERE t.member.id = :memberId AND t.transactionDate >= :from AND t.transactionDate < :to "
+            + "GROUP BY YEAR(t.transactionDate), MONTH(t.transactionDate), t.type "
+            + "ORDER BY YEAR(t.transactionDate), MONTH(t.transactionDate), t.type")
+    List<PointTransactionSummaryDto> summarizeByMonth(Long memberId, LocalDateTime from, LocalDateTime to);
+
+    @Query("SELECT new com.example.memberservice.dto.PointTransactionSummaryDto("
+            + "YEAR(t.transactionDate), MONTH(t.transactionDate), DAY(t.transactionDate), t.type, SUM(t.points), COUNT(t)) "
+            + "FROM PointTransaction t WHERE t.member.id = :memberId AND t.transactionDate >= :from AND t.transactionDate < :to "
+            + "GROUP BY YEAR(t.transactionDate), MONTH(t.transactionDate), DAY(t.transactionDate), t.type "
+            + "ORDER BY YEAR(t.transactionDate), MONTH(t.transactionDate), DAY(t.transactionDate), t.type")
+    List<PointTransactionSummaryDto> summarizeByDay(Long memberId, LocalDateTime from, LocalDateTime to);
 }
@@ -1,43 +1,112 @@
 package com.example.memberservice.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import com.example.memberservice.dto.LoginRequest;
 import com.example.memberservice.dto.LoginResponse;
+import com.example.memberservice.dto.RefreshTokenRequest;
 import com.example.memberservice.entity.Account;
 import com.example.memberservice.exception.InvalidCredentialsException;
+import com.example.memberservice.exception.TooManyRequestsException;
 import com.example.memberservice.repository.AccountRepository;
+import com.example.memberservice.utils.JwtPrincipal;
 import com.example.memberservice.utils.JwtUtils;
 
 import java.time.LocalDateTime;
 
 @Service
 public class AuthService {
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
 
     private final AccountRepository accountRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtils jwtUtils;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthService(AccountRepository accountRepository, PasswordEncoder passwordEncoder, JwtUtils jwtUtils) {
+    public AuthService(AccountRepository accountRepository, PasswordHashingService passwordHashingService, JwtUtils jwtUtils, LastLoginRecorder lastLoginRecorder,
+            TokenRevocationService tokenRevocationService) {
         this.accountRepository = accountRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtUtils = jwtUtils;
+        this.lastLoginRecorder = lastLoginRecorder;
+        this.tokenRevocationService = tokenRevocationService;
     }
     
     public LoginResponse login(LoginRequest loginRequest) {
         Account account = accountRepository.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new InvalidCredentialsException("Invalid username or password"));
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), account.getPassword())) {
+        if (!passwordHashingService.matches(loginRequest.getPassword(), account.getPassword())) {
             throw new InvalidCredentialsException("Invalid username or password");
         }
+        if (passwordHashingService.needsRehash(account.getPassword())) {
+            rehashInBackground(account.getId(), account.getPassword(), loginRequest.getPassword());
+        }
 
         String accessToken = jwtUtils.createAccessToken(account.getUsername());
         String refreshToken = jwtUtils.createRefreshToken(account.getUsername());
 
-        account.setLastLoginAt(LocalDateTime.now());
-        accountRepository.save(account);
+        lastLoginRecorder.record(account.getId(), LocalDateTime.now());
 
         return new LoginResponse(accessToken, refreshToken);
     }
+
+    /**
+     * Mints a new access token from a valid, unrevoked refresh token. Only the account's existence and
+     * enabled flag are checked; the password hash is not touched.
+     */
+    public LoginResponse refresh(RefreshTokenRequest refreshTokenRequest) {
+        JwtPrincipal principal = resolveRefreshToken(refreshTokenRequest.getRefreshToken());
+        Account account = accountRepository.findByUsername(principal.getSubject())
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token"));
+        if (Boolean.FALSE.equals(account.getEnabled())) {
+            throw new InvalidCredentialsException("Invalid refresh token");
+        }
+        return new LoginResponse(jwtUtils.createAccessToken(account.getUsername()), refreshTokenRequest.getRefreshToken());
+    }
+
+    /**
+     * Revokes the refresh token and, when given, the access token of the session.
+     */
+    public void logout(String accessToken, RefreshTokenRequest refreshTokenRequest) {
+        JwtPrincipal refreshPrincipal = resolveRefreshToken(refreshTokenRequest.getRefreshToken());
+        tokenRevocationService.revoke(refreshPrincipal.getTokenId(), refreshPrincipal.getExpiresAt());
+
+        JwtPrincipal accessPrincipal = jwtUtils.resolvePrincipal(accessToken);
+        if (accessPrincipal != null && accessPrincipal.getSubject().equals(refreshPrincipal.getSubject())) {
+            tokenRevocationService.revoke(accessPrincipal.getTokenId(), accessPrincipal.getExpiresAt());
+        }
+    }
+
+    private JwtPrincipal resolveRefreshToken(String refreshToken) {
+        JwtPrincipal principal = jwtUtils.resolvePrincipal(refreshToken);
+        if (principal == null || !"REFRESH".equals(principal.getType()) || tokenRevocationService.isRevoked(principal.getTokenId())) {
+            throw new InvalidCredentialsException("Invalid refresh token");
+        }
+        return principal;
+    }
+
+    // the login does not wait for the new hash; it is swapped in only if the stored hash is still the one that was just verified
+    private void rehashInBackground(Long accountId, String verifiedHash, String rawPassword) {
+        try {
+            passwordHashingService.encodeAsync(rawPassword).whenComplete((newHash, error) -> {
+                if (error != null) {
+                    logger.warn("Rehash of account {} failed", accountId, error);
+                    return;
+                }
+                try {
+                    if (accountRepository.updatePasswordIfUnchanged(accountId, verifiedHash, newHash) == 1) {
+                        logger.debug("Rehashed password of account {}", accountId);
+                    }
+                } catch (DataAccessException e) {
+                    logger.warn("Storing the rehashed password of account {} failed", accountId, e);
+                }
+            });
+        } catch (TooManyRequestsException e) {
+            logger.debug("Hashing pool saturated, rehash of account {} deferred to a later login", accountId);
+        }
+    }
 }
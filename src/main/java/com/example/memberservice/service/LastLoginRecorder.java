@@ -0,0 +1,76 @@
+package com.example.memberservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Buffers last-login timestamps per account and writes them in one batched UPDATE per flush, keeping the
+ * latest timestamp when an account logs in several times in between. Only last_login_at is written; a
+ * timestamp older than the stored one never replaces it. Pending timestamps are flushed on shutdown.
+ */
+@Component
+public class LastLoginRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE account SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginRecorder(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("auth.last_login.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    public void record(Long accountId, LocalDateTime loginAt) {
+        pending.merge(accountId, loginAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Scheduled(fixedDelayString = "${member.security.last-login.flush-interval-millis:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            // a login recorded after the snapshot replaces the value and stays pending for the next flush
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, batch, batch.size(), (ps, entry) -> {
+                ps.setObject(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+                ps.setObject(3, entry.getValue());
+            });
+            logger.debug("Flushed last login of {} accounts", batch.size());
+        } catch (DataAccessException e) {
+            logger.warn("Flushing last login of {} accounts failed, retrying on the next flush", batch.size(), e);
+            batch.forEach(entry -> record(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.memberservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.dto.BatchRegisterResponse;
+import com.example.memberservice.dto.BatchRegisterResult;
+import com.example.memberservice.dto.RegisterRequest;
+import com.example.memberservice.entity.Account;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.MemberLevel;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.exception.MemberLevelNotFoundException;
+import com.example.memberservice.exception.TooManyRequestsException;
+import com.example.memberservice.repository.AccountRepository;
+import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.repository.PointBalanceRepository;
+import com.example.memberservice.utils.PhoneNumberUtils;
+
+/**
+ * Registers members in chunks: one duplicate-email query per chunk, password hashing in waves on the
+ * PasswordHashingService pool, and Member/Account/PointBalance inserts flushed as JDBC batches in one
+ * transaction per chunk.
+ * Every input row gets a result; a failing row never fails the rest of the batch. A chunk that fails to commit
+ * is retried one row per transaction.
+ */
+@Service
+public class MemberBatchRegistrationService {
+    private static final Logger logger = LoggerFactory.getLogger(MemberBatchRegistrationService.class);
+
+    private final PasswordHashingService passwordHashingService;
+    private final MemberRepository memberRepository;
+    private final AccountRepository accountRepository;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final MemberLevelCache memberLevelCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public MemberBatchRegistrationService(PasswordHashingService passwordHashingService, MemberRepository memberRepository, AccountRepository accountRepository,
+            PointBalanceRepository pointBalanceRepository, MemberLevelCache memberLevelCache, TransactionTemplate transactionTemplate,
+            @Value("${member.registration.batch.chunk-size:500}") int chunkSize) {
+        this.passwordHashingService = passwordHashingService;
+        this.memberRepository = memberRepository;
+        this.accountRepository = accountRepository;
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.memberLevelCache = memberLevelCache;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public BatchRegisterResponse registerMembers(List<RegisterRequest> requests) {
+        MemberLevel defaultLevel = memberLevelCache.findByLevel(MemberLevel.Level.BRONZE).orElseThrow(() -> new MemberLevelNotFoundException("Default member level not found"));
+
+        BatchRegisterResult[] results = new BatchRegisterResult[requests.size()];
+        Set<String> seenEmails = new HashSet<>();
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            registerChunk(requests, from, Math.min(from + chunkSize, requests.size()), defaultLevel, seenEmails, results);
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(BatchRegisterResult::isSuccess).count();
+        return new BatchRegisterResponse(requests.size(), succeeded, requests.size() - succeeded, Arrays.asList(results));
+    }
+
+    private void registerChunk(List<RegisterRequest> requests, int from, int to, MemberLevel defaultLevel, Set<String> seenEmails, BatchRegisterResult[] results) {
+        List<RegisterRequest> chunk = requests.subList(from, to);
+        List<String> phoneNumbers = PhoneNumberUtils.normalizeAll(chunk.stream().map(RegisterRequest::getPhoneNumber).toList());
+        // emails compare case-insensitively, as under the database collation
+        Set<String> existingEmails = memberRepository.findExistingEmails(
+                chunk.stream().map(RegisterRequest::getEmail).filter(Objects::nonNull).distinct().toList())
+                .stream().map(email -> email.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+
+        List<Candidate> candidates = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            RegisterRequest request = chunk.get(i);
+            int index = from + i;
+            String error = validate(request, phoneNumbers.get(i), existingEmails, seenEmails);
+            if (error != null) {
+                results[index] = BatchRegisterResult.failed(index, request.getEmail(), error);
+            } else {
+                candidates.add(new Candidate(index, request, phoneNumbers.get(i)));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> encodedPasswords;
+        try {
+            encodedPasswords = passwordHashingService.encodeAll(candidates.stream().map(candidate -> candidate.request().getPassword()).toList());
+        } catch (TooManyRequestsException e) {
+            for (Candidate candidate : candidates) {
+                results[candidate.index()] = BatchRegisterResult.failed(candidate.index(), candidate.request().getEmail(), e.getMessage());
+            }
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(candidates, encodedPasswords, defaultLevel, results));
+        } catch (DataAccessException | TransactionException e) {
+            // e.g. a username taken by another account; retry row by row so only the offending rows fail
+            logger.warn("Batch registration chunk [{}, {}) failed, retrying row by row: {}", from, to, e.getMessage());
+            for (int i = 0; i < candidates.size(); i++) {
+                persistOne(candidates.get(i), encodedPasswords.get(i), defaultLevel, results);
+            }
+        }
+    }
+
+    private void persistOne(Candidate candidate, String encodedPassword, MemberLevel defaultLevel, BatchRegisterResult[] results) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(List.of(candidate), List.of(encodedPassword), defaultLevel, results));
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Batch registration row {} failed: {}", candidate.index(), e.getMessage());
+            results[candidate.index()] = BatchRegisterResult.failed(candidate.index(), candidate.request().getEmail(), "Registration failed");
+        }
+    }
+
+    private String validate(RegisterRequest request, String phoneNumber, Set<String> existingEmails, Set<String> seenEmails) {
+        if (request.getEmail() == null || request.getEmail().isBlank()) {
+            return "Email is required";
+        }
+        if (request.getPassword() == null || request.getPassword().isBlank()) {
+            return "Password is required";
+        }
+        if (phoneNumber == null) {
+            return "Invalid phone number";
+        }
+        String email = request.getEmail().toLowerCase(Locale.ROOT);
+        if (existingEmails.contains(email)) {
+            return "Email already exists";
+        }
+        if (!seenEmails.add(email)) {
+            return "Duplicate email in batch";
+        }
+        return null;
+    }
+
+    private void persist(List<Candidate> candidates, List<String> encodedPasswords, MemberLevel defaultLevel, BatchRegisterResult[] results) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Member> members = new ArrayList<>(candidates.size());
+        List<Account> accounts = new ArrayList<>(candidates.size());
+        List<PointBalance> balances = new ArrayList<>(candidates.size());
+
+        for (int i = 0; i < candidates.size(); i++) {
+            RegisterRequest request = candidates.get(i).request();
+
+            Member member = new Member();
+            member.setFirstName(request.getFirstName());
+            member.setLastName(request.getLastName());
+            member.setPhoneNumber(candidates.get(i).phoneNumber());
+            member.setEmail(request.getEmail());
+            member.setDateOfBirth(request.getDateOfBirth());
+            member.setMemberLevel(defaultLevel);
+            members.add(member);
+
+            Account account = new Account();
+            account.setUsername(request.getEmail());
+            account.setPassword(encodedPasswords.get(i));
+            account.setMember(member);
+            accounts.add(account);
+
+            PointBalance pointBalance = new PointBalance();
+            pointBalance.setMember(member);
+            pointBalance.setTotalPoints(0);
+            pointBalance.setUsedPoints(0);
+            pointBalance.setExpiredPoints(0);
+            pointBalance.setAvailablePoints(0);
+            pointBalance.setLastUpdated(now);
+            balances.add(pointBalance);
+        }
+
+        // sequence-generated ids are assigned here without a round trip per row; the inserts are batched on flush
+        memberRepository.saveAll(members);
+        accountRepository.saveAll(accounts);
+        pointBalanceRepository.saveAll(balances);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            results[candidate.index()] = BatchRegisterResult.succeeded(candidate.index(), candidate.request().getEmail(), members.get(i).getId());
+        }
+    }
+
+    private record Candidate(int index, RegisterRequest request, String phoneNumber) {
+    }
+}
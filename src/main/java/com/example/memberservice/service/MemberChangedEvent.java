@@ -0,0 +1,19 @@
+package com.example.memberservice.service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published inside the transaction that changes what a member summary shows (points, level, existence).
+ * A null memberIds means any member may have changed.
+ */
+public record MemberChangedEvent(Collection<Long> memberIds) {
+
+    public static MemberChangedEvent of(Long memberId) {
+        return new MemberChangedEvent(List.of(memberId));
+    }
+
+    public static MemberChangedEvent all() {
+        return new MemberChangedEvent(null);
+    }
+}
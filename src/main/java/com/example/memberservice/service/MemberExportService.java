@@ -0,0 +1,149 @@
+package com.example.memberservice.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.dto.MemberWithPointsDto;
+import com.example.memberservice.exception.UnsupportedExportFormatException;
+import com.example.memberservice.repository.MemberRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes all members with their points to a stream row by row while the cursor is read, so memory use
+ * does not grow with the member count and the first bytes go out as soon as the first row arrives.
+ */
+@Service
+public class MemberExportService {
+    private static final Logger logger = LoggerFactory.getLogger(MemberExportService.class);
+
+    private static final String CSV_HEADER = "memberId,firstName,lastName,email,totalPoints,availablePoints,memberLevel";
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectWriter rowWriter;
+
+    public MemberExportService(MemberRepository memberRepository, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.rowWriter = objectMapper.writerFor(MemberWithPointsDto.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String fileExtension;
+
+        Format(String contentType, String fileExtension) {
+            this.contentType = contentType;
+            this.fileExtension = fileExtension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+
+        public static Format parse(String format) {
+            try {
+                return Format.valueOf(format.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new UnsupportedExportFormatException(format);
+            }
+        }
+    }
+
+    public void export(Format format, OutputStream outputStream) {
+        long startNanos = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        Long rows = readOnlyTransactionTemplate.execute(status -> {
+            try (Stream<MemberWithPointsDto> members = memberRepository.streamAllWithPoints(LocalDateTime.now())) {
+                return write(format, members.iterator(), writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        logger.info("Exported {} members as {} in {}ms", rows, format, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+
+    private long write(Format format, Iterator<MemberWithPointsDto> members, Writer writer) throws IOException {
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        long rows = 0;
+        while (members.hasNext()) {
+            MemberWithPointsDto member = members.next();
+            if (format == Format.CSV) {
+                writeCsvRow(member, writer);
+            } else {
+                rowWriter.writeValue(writer, member);
+            }
+            writer.write('\n');
+            if (++rows % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeCsvRow(MemberWithPointsDto member, Writer writer) throws IOException {
+        writer.write(String.valueOf(member.getMemberId()));
+        writer.write(',');
+        writeCsvField(member.getFirstName(), writer);
+        writer.write(',');
+        writeCsvField(member.getLastName(), writer);
+        writer.write(',');
+        writeCsvField(member.getEmail(), writer);
+        writer.write(',');
+        writeCsvField(member.getTotalPoints() == null ? null : member.getTotalPoints().toString(), writer);
+        writer.write(',');
+        writeCsvField(member.getAvailablePoints() == null ? null : member.getAvailablePoints().toString(), writer);
+        writer.write(',');
+        writeCsvField(member.getMemberLevel(), writer);
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break and double embedded quotes
+    private static void writeCsvField(String value, Writer writer) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.memberservice.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.memberservice.entity.MemberLevel;
+import com.example.memberservice.repository.MemberLevelRepository;
+
+/**
+ * Read-through, preloaded cache of the MemberLevel reference rows. Lookups are served from an immutable
+ * snapshot that is swapped on refresh; edits invalidate it after commit (see MemberLevelCacheInvalidationListener)
+ * and a periodic refresh picks up edits made by other instances. Cached levels are shared and must not be modified.
+ */
+@Component
+public class MemberLevelCache {
+    private static final Logger logger = LoggerFactory.getLogger(MemberLevelCache.class);
+
+    private final MemberLevelRepository memberLevelRepository;
+    private volatile Map<MemberLevel.Level, MemberLevel> levels;
+
+    public MemberLevelCache(MemberLevelRepository memberLevelRepository) {
+        this.memberLevelRepository = memberLevelRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${member.levels.cache.refresh-interval-millis:300000}", initialDelayString = "${member.levels.cache.refresh-interval-millis:300000}")
+    public void refresh() {
+        load();
+    }
+
+    /**
+     * Swaps in a fresh snapshot and returns it, so a concurrent {@link #invalidate()} cannot leave the caller
+     * with null. refresh() stays void: the return value of an @EventListener is published as an event.
+     */
+    private Map<MemberLevel.Level, MemberLevel> load() {
+        Map<MemberLevel.Level, MemberLevel> loaded = new EnumMap<>(MemberLevel.Level.class);
+        for (MemberLevel level : memberLevelRepository.findAll()) {
+            loaded.put(level.getLevel(), level);
+        }
+        levels = loaded;
+        logger.debug("Member level cache loaded {} levels", loaded.size());
+        return loaded;
+    }
+
+    public Optional<MemberLevel> findByLevel(MemberLevel.Level level) {
+        return Optional.ofNullable(snapshot().get(level));
+    }
+
+    public Optional<MemberLevel> findById(Long id) {
+        for (MemberLevel level : snapshot().values()) {
+            if (level.getId().equals(id)) {
+                return Optional.of(level);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * All levels ordered by ascending minPointsRequired.
+     */
+    public List<MemberLevel> findAllOrderedByMinPoints() {
+        List<MemberLevel> ordered = new ArrayList<>(snapshot().values());
+        ordered.sort(Comparator.comparing(MemberLevel::getMinPointsRequired, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return ordered;
+    }
+
+    /**
+     * Drops the snapshot once the current transaction commits, or immediately outside a transaction.
+     * The next lookup reloads it.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    levels = null;
+                }
+            });
+        } else {
+            levels = null;
+        }
+    }
+
+    private Map<MemberLevel.Level, MemberLevel> snapshot() {
+        Map<MemberLevel.Level, MemberLevel> current = levels;
+        if (current == null) {
+            current = load();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.memberservice.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener on MemberLevel. Instantiated by Hibernate through Spring's bean container; the
+ * cache is resolved lazily because listeners are created while the EntityManagerFactory is still being built.
+ */
+public class MemberLevelCacheInvalidationListener {
+    private final ObjectProvider<MemberLevelCache> memberLevelCache;
+
+    public MemberLevelCacheInvalidationListener(ObjectProvider<MemberLevelCache> memberLevelCache) {
+        this.memberLevelCache = memberLevelCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onLevelChanged(Object level) {
+        memberLevelCache.ifAvailable(MemberLevelCache::invalidate);
+    }
+}
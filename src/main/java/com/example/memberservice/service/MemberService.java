@@ -1,20 +1,25 @@
 package com.example.memberservice.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import com.example.memberservice.dto.RegisterRequest;
 
 import com.example.memberservice.entity.Account;
 import com.example.memberservice.repository.*;
+import com.example.memberservice.utils.CursorUtils;
 import com.example.memberservice.utils.PhoneNumberUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.memberservice.dto.CursorPage;
 import com.example.memberservice.dto.MemberWithPointsDto;
+import com.example.memberservice.dto.PointBalanceDeltaDto;
 import com.example.memberservice.entity.Member;
 import com.example.memberservice.entity.MemberLevel;
 import com.example.memberservice.entity.PointBalance;
@@ -25,60 +30,97 @@ import com.example.memberservice.exception.PointBalanceNotFoundException;
 
 @Service
 public class MemberService {
-    private final PasswordEncoder passwordEncoder;
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
+    private final PasswordHashingService passwordHashingService;
     private final MemberRepository memberRepository;
     private final AccountRepository accountRepository;
     private final PointRecordRepository pointRecordRepository;
     private final PointBalanceRepository pointBalanceRepository;
-    private final MemberLevelRepository memberLevelRepository;
-
-    public MemberService(PasswordEncoder passwordEncoder, MemberRepository memberRepository, AccountRepository accountRepository, PointRecordRepository pointRecordRepository, PointBalanceRepository pointBalanceRepository, MemberLevelRepository memberLevelRepository) {
-        this.passwordEncoder = passwordEncoder;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final MemberLevelCache memberLevelCache;
+    private final MemberSummaryCache memberSummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public MemberService(PasswordHashingService passwordHashingService, MemberRepository memberRepository, AccountRepository accountRepository, PointRecordRepository pointRecordRepository, PointBalanceRepository pointBalanceRepository,
+            PointTransactionRepository pointTransactionRepository, MemberLevelCache memberLevelCache, MemberSummaryCache memberSummaryCache,
+            ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
+        this.passwordHashingService = passwordHashingService;
         this.memberRepository = memberRepository;
         this.accountRepository = accountRepository;
         this.pointRecordRepository = pointRecordRepository;
         this.pointBalanceRepository = pointBalanceRepository;
-        this.memberLevelRepository = memberLevelRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.memberLevelCache = memberLevelCache;
+        this.memberSummaryCache = memberSummaryCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public Page<MemberWithPointsDto> getAllMembersWithPoints(Pageable pageable) {
-        return memberRepository.findAll(pageable).map(member -> {
-            Integer availablePoints = pointRecordRepository.sumAvailablePoints(member, LocalDateTime.now());
-            PointBalance pointBalance = pointBalanceRepository.findByMember(member).orElseThrow(() -> new PointBalanceNotFoundException(member.getId()));
-            return new MemberWithPointsDto(
-                    member.getId(),
-                    member.getFirstName(),
-                    member.getLastName(),
-                    member.getEmail(),
-                    pointBalance.getTotalPoints(),
-                    availablePoints,
-                    member.getMemberLevel().getLevel().name());
-        });
+        return memberRepository.findAllWithPoints(LocalDateTime.now(), pageable);
+    }
+
+    public CursorPage<MemberWithPointsDto> getMembersWithPointsAfter(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        long afterId = CursorUtils.decodeId(cursor);
+
+        // fetch one extra row to learn whether another page exists without a count query
+        List<MemberWithPointsDto> rows = memberRepository.findWithPointsAfter(afterId, LocalDateTime.now(), Limit.of(pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<MemberWithPointsDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CursorUtils.encodeId(content.get(content.size() - 1).getMemberId()) : null;
+        return new CursorPage<>(content, content.size(), hasNext, nextCursor);
     }
 
     public void deleteMember(Long id) {
         Member member = memberRepository.findById(id).orElseThrow(() -> new MemberNotFoundException(id));
         memberRepository.delete(member);
+        eventPublisher.publishEvent(MemberChangedEvent.of(id));
     }
 
     public MemberWithPointsDto getMemberWithPoints(Long id) {
+        return memberSummaryCache.get(id, this::loadMemberWithPoints);
+    }
+
+    private MemberWithPointsDto loadMemberWithPoints(Long id) {
         Member member = memberRepository.findById(id).orElseThrow(() -> new MemberNotFoundException(id));
-        Integer availablePoints = pointRecordRepository.sumAvailablePoints(member, LocalDateTime.now());
         PointBalance pointBalance = pointBalanceRepository.findByMember(member).orElseThrow(() -> new PointBalanceNotFoundException(id));
+        PointBalanceDeltaDto delta = pointTransactionRepository.sumUnfolded(id);
+        LocalDateTime now = LocalDateTime.now();
+        Integer availablePoints = pointBalance.getAvailablePoints() != null
+                ? pointBalance.getAvailablePoints() + delta.getAvailablePoints().intValue() - expiredSinceLastRun(pointBalance, now)
+                : pointRecordRepository.sumAvailablePoints(member, now);
         return new MemberWithPointsDto(
             member.getId(),
             member.getFirstName(),
             member.getLastName(),
             member.getEmail(),
-            pointBalance.getTotalPoints(),
+            pointBalance.getTotalPoints() + delta.getTotalPoints().intValue(),
             availablePoints,
-            member.getMemberLevel().getLevel().name()
+            levelName(member)
         );
     }
 
-    @Transactional
+    /**
+     * Records expired since the last expiry run are still in the snapshot but can no longer be redeemed; none
+     * can have expired before the balance's nextExpiryDate.
+     */
+    private int expiredSinceLastRun(PointBalance pointBalance, LocalDateTime now) {
+        LocalDateTime nextExpiryDate = pointBalance.getNextExpiryDate();
+        if (nextExpiryDate == null || now.isBefore(nextExpiryDate)) {
+            return 0;
+        }
+        return pointRecordRepository.sumExpiredRemainingPoints(pointBalance.getMember(), now);
+    }
+
+    /**
+     * Hashes the password before the transaction opens: the hash can wait in the hashing queue, and no pooled
+     * connection is held meanwhile. The email check is repeated inside the transaction.
+     */
     public MemberWithPointsDto registerMember(RegisterRequest registerRequest) {
-        MemberLevel defaultLevel = memberLevelRepository.findByLevel(MemberLevel.Level.BRONZE).orElseThrow(() -> new MemberLevelNotFoundException("Default member level not found"));
+        MemberLevel defaultLevel = memberLevelCache.findByLevel(MemberLevel.Level.BRONZE).orElseThrow(() -> new MemberLevelNotFoundException("Default member level not found"));
 
         Member member = new Member();
         member.setFirstName(registerRequest.getFirstName());
@@ -88,16 +130,25 @@ public class MemberService {
         member.setDateOfBirth(registerRequest.getDateOfBirth());
         member.setMemberLevel(defaultLevel);
 
-        Optional<Member> existing = memberRepository.findByEmail(member.getEmail());
+        requireNewEmail(member.getEmail());
+        String encodedPassword = passwordHashingService.encode(registerRequest.getPassword());
+        return transactionTemplate.execute(status -> persistRegistration(member, encodedPassword, defaultLevel));
+    }
+
+    private void requireNewEmail(String email) {
+        Optional<Member> existing = memberRepository.findByEmail(email);
         if (existing.isPresent()) {
             throw new DuplicateEmailException("Email already exists");
         }
+    }
+
+    private MemberWithPointsDto persistRegistration(Member member, String encodedPassword, MemberLevel defaultLevel) {
+        requireNewEmail(member.getEmail());
 
         Member savedMember = memberRepository.save(member);
 
         Account account = new Account();
         account.setUsername(member.getEmail());
-        String encodedPassword = passwordEncoder.encode(registerRequest.getPassword());
         account.setPassword(encodedPassword);
         account.setMember(savedMember);
         accountRepository.save(account);
@@ -107,6 +158,7 @@ public class MemberService {
         pointBalance.setTotalPoints(0);
         pointBalance.setUsedPoints(0);
         pointBalance.setExpiredPoints(0);
+        pointBalance.setAvailablePoints(0);
         pointBalance.setLastUpdated(LocalDateTime.now());
         pointBalanceRepository.save(pointBalance);
 
@@ -117,7 +169,15 @@ public class MemberService {
                 savedMember.getEmail(),
                 0,
                 0,
-                savedMember.getMemberLevel().getLevel().name()
+                defaultLevel.getLevel().name()
         );
     }
+
+    // memberLevel is a lazy proxy; reading its id does not initialize it, so the level comes from the cache without a query
+    private String levelName(Member member) {
+        Long levelId = member.getMemberLevel().getId();
+        return memberLevelCache.findById(levelId)
+                .orElseThrow(() -> new MemberLevelNotFoundException("Member level not found: " + levelId))
+                .getLevel().name();
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.memberservice.service;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.memberservice.dto.MemberWithPointsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded read-through cache of MemberWithPointsDto by member id. Entries are dropped after the commit of
+ * any transaction that publishes a MemberChangedEvent for them; the TTL bounds staleness from writes made
+ * by other instances. Hit, miss and eviction counts are published as the "member.summary" cache metrics.
+ * Cached summaries are shared and must not be modified.
+ */
+@Component
+public class MemberSummaryCache {
+    private final Cache<Long, MemberWithPointsDto> cache;
+
+    public MemberSummaryCache(MeterRegistry meterRegistry,
+            @Value("${member.summary-cache.maximum-size:10000}") long maximumSize,
+            @Value("${member.summary-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member.summary");
+    }
+
+    /**
+     * Returns the cached summary or loads it; a loader exception is propagated and nothing is cached.
+     * An invalidation that races with the load waits for it, so a summary read before a commit is never kept.
+     */
+    public MemberWithPointsDto get(Long memberId, Function<Long, MemberWithPointsDto> loader) {
+        return cache.get(memberId, loader);
+    }
+
+    // fallbackExecution covers writes that run without a transaction, such as member deletion
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.memberIds() == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.memberIds());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.memberservice.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.memberservice.dto.AvailablePointsCheckDto;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+/**
+ * Re-derives PointBalance.availablePoints from PointRecord in keyset-ordered chunks and reports
+ * members whose materialized value has drifted. Drifted rows are only rewritten when repair is enabled.
+ */
+@Service
+public class PointBalanceVerificationService {
+    private static final Logger logger = LoggerFactory.getLogger(PointBalanceVerificationService.class);
+
+    private final PointBalanceRepository pointBalanceRepository;
+    private final int chunkSize;
+    private final boolean repair;
+
+    public PointBalanceVerificationService(PointBalanceRepository pointBalanceRepository,
+            @Value("${member.points.verification.chunk-size:1000}") int chunkSize,
+            @Value("${member.points.verification.repair:false}") boolean repair) {
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.chunkSize = chunkSize;
+        this.repair = repair;
+    }
+
+    @Scheduled(cron = "${member.points.verification.cron:0 30 3 * * *}")
+    public void scheduledVerification() {
+        verifyAvailablePoints();
+    }
+
+    public int verifyAvailablePoints() {
+        long afterMemberId = 0L;
+        int checked = 0;
+        int drifted = 0;
+
+        List<AvailablePointsCheckDto> chunk;
+        do {
+            chunk = pointBalanceRepository.checkAvailablePointsAfter(afterMemberId, Limit.of(chunkSize));
+            List<Long> driftedMemberIds = chunk.stream()
+                    .filter(AvailablePointsCheckDto::hasDrift)
+                    .map(AvailablePointsCheckDto::getMemberId)
+                    .toList();
+
+            for (AvailablePointsCheckDto check : chunk) {
+                if (check.hasDrift()) {
+                    logger.warn("Available points drift for member {}: recorded={}, derived={}",
+                            check.getMemberId(), check.getRecordedPoints(), check.getDerivedPoints());
+                }
+            }
+            if (repair && !driftedMemberIds.isEmpty()) {
+                pointBalanceRepository.rederiveAvailablePoints(driftedMemberIds);
+            }
+
+            checked += chunk.size();
+            drifted += driftedMemberIds.size();
+            if (!chunk.isEmpty()) {
+                afterMemberId = chunk.get(chunk.size() - 1).getMemberId();
+            }
+        } while (chunk.size() == chunkSize);
+
+        logger.info("Available points verification finished: checked={}, drifted={}, repaired={}", checked, drifted, repair ? drifted : 0);
+        return drifted;
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.memberservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.dto.BatchEarnResponse;
+import com.example.memberservice.dto.BatchEarnResult;
+import com.example.memberservice.dto.EarnPointsRequest;
+import com.example.memberservice.exception.ServiceBusyException;
+import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.repository.PointEarnIdempotencyKeyRepository;
+
+/**
+ * Applies uploaded earn rows in chunks. Each row carries an idempotency key; keys already applied, by an
+ * earlier upload or earlier in the same one, are reported as duplicates and not applied again. The keys
+ * are inserted in the same transaction as the earns, so a re-upload after a failure applies exactly the
+ * rows that did not commit. Every input row gets a result; a chunk that fails to commit is retried one row
+ * per transaction, so a failing row never fails the rest.
+ */
+@Service
+public class PointBatchEarnService {
+    private static final Logger logger = LoggerFactory.getLogger(PointBatchEarnService.class);
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    private static final String INSERT_KEY_SQL =
+            "INSERT INTO point_earn_idempotency_key (idempotency_key, member_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final MemberRepository memberRepository;
+    private final PointEarnIdempotencyKeyRepository idempotencyKeyRepository;
+    private final PointEarnBatchWriter pointEarnBatchWriter;
+    private final PointTransactionBulkhead bulkhead;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int keyRetentionDays;
+
+    public PointBatchEarnService(MemberRepository memberRepository, PointEarnIdempotencyKeyRepository idempotencyKeyRepository, PointEarnBatchWriter pointEarnBatchWriter,
+            PointTransactionBulkhead bulkhead, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            @Value("${member.points.batch-earn.chunk-size:1000}") int chunkSize,
+            @Value("${member.points.batch-earn.key-retention-days:90}") int keyRetentionDays) {
+        this.memberRepository = memberRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.pointEarnBatchWriter = pointEarnBatchWriter;
+        this.bulkhead = bulkhead;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.keyRetentionDays = keyRetentionDays;
+    }
+
+    public BatchEarnResponse earnAll(List<EarnPointsRequest> requests) {
+        BatchEarnResult[] results = new BatchEarnResult[requests.size()];
+        Set<String> seenKeys = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            earnChunk(requests, from, Math.min(from + chunkSize, requests.size()), now, seenKeys, results);
+        }
+
+        int applied = 0;
+        int duplicates = 0;
+        for (BatchEarnResult result : results) {
+            if (result.getStatus() == BatchEarnResult.Status.APPLIED) {
+                applied++;
+            } else if (result.getStatus() == BatchEarnResult.Status.DUPLICATE) {
+                duplicates++;
+            }
+        }
+        return new BatchEarnResponse(requests.size(), applied, duplicates, requests.size() - applied - duplicates, Arrays.asList(results));
+    }
+
+    @Scheduled(cron = "${member.points.batch-earn.key-purge-cron:0 15 4 * * *}")
+    public void purgeExpiredKeys() {
+        int purged = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minusDays(keyRetentionDays));
+        logger.info("Purged {} batch earn idempotency keys older than {} days", purged, keyRetentionDays);
+    }
+
+    private void earnChunk(List<EarnPointsRequest> requests, int from, int to, LocalDateTime now, Set<String> seenKeys, BatchEarnResult[] results) {
+        List<Candidate> candidates = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            EarnPointsRequest request = requests.get(index);
+            String error = validate(request, now);
+            if (error != null) {
+                results[index] = BatchEarnResult.failed(index, request.getIdempotencyKey(), error);
+            } else if (!seenKeys.add(request.getIdempotencyKey())) {
+                results[index] = BatchEarnResult.duplicate(index, request.getIdempotencyKey());
+            } else {
+                candidates.add(new Candidate(index, request));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<Long> existingMembers = memberRepository.findExistingIds(candidates.stream().map(candidate -> candidate.request().getMemberId()).distinct().toList());
+        candidates.removeIf(candidate -> {
+            if (existingMembers.contains(candidate.request().getMemberId())) {
+                return false;
+            }
+            results[candidate.index()] = BatchEarnResult.failed(candidate.index(), candidate.request().getIdempotencyKey(), "Member not found");
+            return true;
+        });
+
+        // a concurrent upload of the same keys makes the key insert fail; the second pass reports them as duplicates
+        for (int attempt = 1; !candidates.isEmpty(); attempt++) {
+            removeApplied(candidates, results);
+            if (candidates.isEmpty()) {
+                return;
+            }
+            try {
+                bulkhead.run(() -> transactionTemplate.executeWithoutResult(status -> apply(candidates)));
+                for (Candidate candidate : candidates) {
+                    results[candidate.index()] = BatchEarnResult.applied(candidate.index(), candidate.request().getIdempotencyKey());
+                }
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt >= 2) {
+                    fail(candidates, results, "Batch earn failed");
+                    return;
+                }
+            } catch (ServiceBusyException e) {
+                fail(candidates, results, e.getMessage());
+                return;
+            } catch (DataAccessException | TransactionException e) {
+                // e.g. a member deleted since the existence check; retry row by row so only the offending rows fail
+                logger.warn("Batch earn chunk [{}, {}) failed, retrying row by row: {}", from, to, e.getMessage());
+                for (Candidate candidate : candidates) {
+                    earnOne(candidate, results);
+                }
+                return;
+            }
+        }
+    }
+
+    private void earnOne(Candidate candidate, BatchEarnResult[] results) {
+        String idempotencyKey = candidate.request().getIdempotencyKey();
+        try {
+            bulkhead.run(() -> transactionTemplate.executeWithoutResult(status -> apply(List.of(candidate))));
+            results[candidate.index()] = BatchEarnResult.applied(candidate.index(), idempotencyKey);
+        } catch (DuplicateKeyException e) {
+            results[candidate.index()] = BatchEarnResult.duplicate(candidate.index(), idempotencyKey);
+        } catch (ServiceBusyException e) {
+            results[candidate.index()] = BatchEarnResult.failed(candidate.index(), idempotencyKey, e.getMessage());
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Batch earn row {} failed: {}", candidate.index(), e.getMessage());
+            results[candidate.index()] = BatchEarnResult.failed(candidate.index(), idempotencyKey, "Batch earn failed");
+        }
+    }
+
+    private void removeApplied(List<Candidate> candidates, BatchEarnResult[] results) {
+        Set<String> appliedKeys = idempotencyKeyRepository.findExistingKeys(candidates.stream().map(candidate -> candidate.request().getIdempotencyKey()).toList());
+        candidates.removeIf(candidate -> {
+            if (!appliedKeys.contains(candidate.request().getIdempotencyKey())) {
+                return false;
+            }
+            results[candidate.index()] = BatchEarnResult.duplicate(candidate.index(), candidate.request().getIdempotencyKey());
+            return true;
+        });
+    }
+
+    private void apply(List<Candidate> candidates) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> keyRows = new ArrayList<>(candidates.size());
+        List<PointEarnBatchWriter.Earn> earns = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            EarnPointsRequest request = candidate.request();
+            keyRows.add(new Object[] { request.getIdempotencyKey(), request.getMemberId(), now, now });
+            String description = request.getDescription() != null ? request.getDescription() : request.getSource();
+            earns.add(new PointEarnBatchWriter.Earn(request.getMemberId(), request.getPoints(), request.getSource(), description, request.getExpireAt()));
+        }
+        jdbcTemplate.batchUpdate(INSERT_KEY_SQL, keyRows);
+        pointEarnBatchWriter.write(earns);
+    }
+
+    private static String validate(EarnPointsRequest request, LocalDateTime now) {
+        if (request.getIdempotencyKey() == null || request.getIdempotencyKey().isBlank()) {
+            return "Idempotency key is required";
+        }
+        if (request.getIdempotencyKey().length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return "Idempotency key is longer than " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters";
+        }
+        if (request.getMemberId() == null) {
+            return "Member id is required";
+        }
+        if (request.getPoints() == null || request.getPoints() <= 0) {
+            return "Points must be positive";
+        }
+        if (request.getExpireAt() == null || !request.getExpireAt().isAfter(now)) {
+            return "Expiry must be in the future";
+        }
+        return null;
+    }
+
+    private static void fail(List<Candidate> candidates, BatchEarnResult[] results, String error) {
+        for (Candidate candidate : candidates) {
+            results[candidate.index()] = BatchEarnResult.failed(candidate.index(), candidate.request().getIdempotencyKey(), error);
+        }
+    }
+
+    private record Candidate(int index, EarnPointsRequest request) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.memberservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies many earns in the caller's transaction with a fixed number of statements: one JDBC batch each
+ * for the PointRecord and PointTransaction inserts and one balance UPDATE per member carrying the summed
+ * delta. In ledger mode, and for members without a PointBalance row yet, the transactions are inserted
+ * unfolded and PointLedgerCompactor applies them instead.
+ */
+@Component
+public class PointEarnBatchWriter {
+    private static final String SELECT_BALANCE_MEMBERS_SQL =
+            "SELECT member_id FROM point_balance WHERE member_id IN (:memberIds)";
+    private static final String INSERT_RECORD_SQL =
+            "INSERT INTO point_record (member_id, points, remaining_points, received_date, expire_date, source, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO point_transaction (member_id, points, type, description, transaction_date, folded, created_at, updated_at) "
+            + "VALUES (?, ?, 'EARN', ?, ?, ?, ?, ?)";
+    private static final String UPDATE_BALANCE_SQL =
+            "UPDATE point_balance SET total_points = total_points + ?, available_points = available_points + ?, "
+            + "next_expiry_date = LEAST(COALESCE(next_expiry_date, ?), ?), version = version + 1, last_updated = ?, updated_at = ? "
+            + "WHERE member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TierEvaluationService tierEvaluationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean ledgerEnabled;
+
+    public PointEarnBatchWriter(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate, TierEvaluationService tierEvaluationService,
+            ApplicationEventPublisher eventPublisher, @Value("${member.points.ledger.enabled:false}") boolean ledgerEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.tierEvaluationService = tierEvaluationService;
+        this.eventPublisher = eventPublisher;
+        this.ledgerEnabled = ledgerEnabled;
+    }
+
+    /**
+     * The members must exist; earns for the same member may appear any number of times.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(List<Earn> earns) {
+        if (earns.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Integer> pointsByMember = new LinkedHashMap<>();
+        Map<Long, LocalDateTime> nextExpiryByMember = new HashMap<>();
+        for (Earn earn : earns) {
+            pointsByMember.merge(earn.memberId(), earn.points(), Integer::sum);
+            nextExpiryByMember.merge(earn.memberId(), earn.expireAt(), (a, b) -> a.isBefore(b) ? a : b);
+        }
+        Set<Long> withBalance = ledgerEnabled ? Set.of() : new HashSet<>(namedParameterJdbcTemplate.queryForList(SELECT_BALANCE_MEMBERS_SQL,
+                new MapSqlParameterSource("memberIds", pointsByMember.keySet()), Long.class));
+
+        List<Object[]> recordRows = new ArrayList<>(earns.size());
+        List<Object[]> transactionRows = new ArrayList<>(earns.size());
+        for (Earn earn : earns) {
+            recordRows.add(new Object[] { earn.memberId(), earn.points(), earn.points(), now, earn.expireAt(), earn.source(), now, now });
+            transactionRows.add(new Object[] { earn.memberId(), earn.points(), earn.description(), now, withBalance.contains(earn.memberId()), now, now });
+        }
+        jdbcTemplate.batchUpdate(INSERT_RECORD_SQL, recordRows);
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactionRows);
+
+        List<Object[]> balanceRows = new ArrayList<>(withBalance.size());
+        pointsByMember.forEach((memberId, points) -> {
+            if (withBalance.contains(memberId)) {
+                LocalDateTime nextExpiry = nextExpiryByMember.get(memberId);
+                balanceRows.add(new Object[] { points, points, nextExpiry, nextExpiry, now, now, memberId });
+            }
+        });
+        if (!balanceRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, balanceRows);
+        }
+
+        tierEvaluationService.enqueueAll(pointsByMember.keySet());
+        eventPublisher.publishEvent(new MemberChangedEvent(pointsByMember.keySet()));
+    }
+
+    public record Earn(long memberId, int points, String source, String description, LocalDateTime expireAt) {
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.memberservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Group commit for earns. Submissions go to one of a fixed number of partitions by member id, each a
+ * bounded lock-free queue drained by a single writer thread, so all earns of a member are written by one
+ * thread and never contend with each other on the PointBalance row. A writer commits up to batch-size
+ * earns per transaction through PointEarnBatchWriter, which coalesces them into one balance update per
+ * member, and lingers up to flush-interval-millis for a batch to fill. Each flush takes a
+ * PointTransactionBulkhead permit like any other point transaction. Futures complete after the commit;
+ * if a batch fails, its earns are retried one per transaction so that one bad earn fails alone, unless
+ * no permit was free, which fails the whole batch at once.
+ */
+@Component
+public class PointEarnPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(PointEarnPipeline.class);
+
+    private final PointEarnBatchWriter pointEarnBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final PointTransactionBulkhead bulkhead;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Partition[] partitions;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+
+    public PointEarnPipeline(PointEarnBatchWriter pointEarnBatchWriter, TransactionTemplate transactionTemplate, PointTransactionBulkhead bulkhead, MeterRegistry meterRegistry,
+            @Value("${member.points.earn-pipeline.enabled:false}") boolean enabled,
+            @Value("${member.points.earn-pipeline.partitions:4}") int partitions,
+            @Value("${member.points.earn-pipeline.queue-capacity:10000}") int queueCapacity,
+            @Value("${member.points.earn-pipeline.batch-size:500}") int batchSize,
+            @Value("${member.points.earn-pipeline.flush-interval-millis:5}") long flushIntervalMillis) {
+        this.pointEarnBatchWriter = pointEarnBatchWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.bulkhead = bulkhead;
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.partitions = new Partition[enabled ? partitions : 0];
+        for (int i = 0; i < this.partitions.length; i++) {
+            this.partitions[i] = new Partition(i);
+        }
+        this.flushTimer = meterRegistry.timer("points.earn.pipeline.flush");
+        this.batchSizeSummary = meterRegistry.summary("points.earn.pipeline.batch.size");
+        this.rejectedCounter = meterRegistry.counter("points.earn.pipeline.rejected");
+        Gauge.builder("points.earn.pipeline.queued", this, PointEarnPipeline::queued).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Partition partition : partitions) {
+            partition.thread.start();
+        }
+    }
+
+    /**
+     * Stops accepting earns and waits for the writers to commit everything already queued.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Partition partition : partitions) {
+            partition.running = false;
+            LockSupport.unpark(partition.thread);
+        }
+        for (Partition partition : partitions) {
+            partition.thread.join();
+            // earns that raced with the shutdown and were queued after the writer finished
+            for (PendingEarn pending; (pending = partition.queue.poll()) != null; ) {
+                pending.future().completeExceptionally(new ServiceBusyException("Point earns are shutting down, please retry later"));
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues an earn for a member that exists.
+     *
+     * @return a future completed once the earn is committed, or exceptionally if it could not be written
+     * @throws ServiceBusyException when the member's partition is full
+     */
+    public CompletableFuture<Void> submit(long memberId, int points, String source, String description, LocalDateTime expireAt) {
+        if (!enabled) {
+            throw new IllegalStateException("The earn pipeline is disabled");
+        }
+        Partition partition = partitions[Math.floorMod(Long.hashCode(memberId), partitions.length)];
+        PendingEarn pending = new PendingEarn(new PointEarnBatchWriter.Earn(memberId, points, source, description, expireAt), new CompletableFuture<>());
+        if (!partition.offer(pending)) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException("Too many pending point earns, please retry later");
+        }
+        return pending.future();
+    }
+
+    private int queued() {
+        int queued = 0;
+        for (Partition partition : partitions) {
+            queued += partition.size.get();
+        }
+        return queued;
+    }
+
+    private void flush(List<PendingEarn> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            flushTimer.record(() -> bulkhead.run(() -> transactionTemplate.executeWithoutResult(status -> pointEarnBatchWriter.write(earnsOf(batch)))));
+            for (PendingEarn pending : batch) {
+                pending.future().complete(null);
+            }
+        } catch (ServiceBusyException e) {
+            // retrying one by one would wait for a permit once per earn
+            for (PendingEarn pending : batch) {
+                pending.future().completeExceptionally(e);
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future().completeExceptionally(e);
+                return;
+            }
+            logger.warn("Earn batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingEarn pending : batch) {
+                flush(List.of(pending));
+            }
+        }
+    }
+
+    private static List<PointEarnBatchWriter.Earn> earnsOf(List<PendingEarn> batch) {
+        List<PointEarnBatchWriter.Earn> earns = new ArrayList<>(batch.size());
+        for (PendingEarn pending : batch) {
+            earns.add(pending.earn());
+        }
+        return earns;
+    }
+
+    private final class Partition implements Runnable {
+        private final ConcurrentLinkedQueue<PendingEarn> queue = new ConcurrentLinkedQueue<>();
+        // ConcurrentLinkedQueue.size() walks the queue; the bound is tracked separately
+        private final AtomicInteger size = new AtomicInteger();
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        Partition(int index) {
+            this.thread = Thread.ofPlatform().name("point-earn-writer-" + index).daemon().unstarted(this);
+        }
+
+        boolean offer(PendingEarn pending) {
+            if (!running) {
+                return false;
+            }
+            if (size.incrementAndGet() > queueCapacity) {
+                size.decrementAndGet();
+                return false;
+            }
+            queue.offer(pending);
+            LockSupport.unpark(thread);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            List<PendingEarn> batch = new ArrayList<>(batchSize);
+            long batchStartNanos = 0;
+            while (running || !queue.isEmpty()) {
+                PendingEarn next = queue.poll();
+                if (next != null) {
+                    size.decrementAndGet();
+                    if (batch.isEmpty()) {
+                        batchStartNanos = System.nanoTime();
+                    }
+                    batch.add(next);
+                    if (batch.size() >= batchSize) {
+                        flushAndClear(batch);
+                    }
+                } else if (batch.isEmpty()) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+                } else {
+                    long lingerNanos = flushIntervalNanos - (System.nanoTime() - batchStartNanos);
+                    if (lingerNanos > 0 && running) {
+                        LockSupport.parkNanos(this, lingerNanos);
+                    } else {
+                        flushAndClear(batch);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushAndClear(batch);
+            }
+        }
+
+        private void flushAndClear(List<PendingEarn> batch) {
+            try {
+                flush(batch);
+            } catch (RuntimeException e) {
+                // flush completes every future itself; this only keeps the writer thread alive
+                logger.error("Unexpected failure in point earn writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private record PendingEarn(PointEarnBatchWriter.Earn earn, CompletableFuture<Void> future) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.memberservice.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.entity.PointExpiryRun;
+import com.example.memberservice.repository.PointBalanceRepository;
+import com.example.memberservice.repository.PointExpiryRunRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Expires PointRecords in bulk. Expired records are paged in (expire_date, id) order along
+ * idx_point_record_expire_date without locking; each chunk is then locked by primary key, zeroed with
+ * one UPDATE, written off with batched EXPIRE transactions and rolled up into PointBalance per member
+ * (left to PointLedgerCompactor in ledger mode), all in one transaction together with the run checkpoint.
+ * The members of a committed chunk are queued for tier evaluation.
+ */
+@Service
+public class PointExpiryService {
+    private static final Logger logger = LoggerFactory.getLogger(PointExpiryService.class);
+
+    private static final String SELECT_CANDIDATES_SQL =
+            "SELECT id, expire_date FROM point_record WHERE expire_date <= :cutoff AND remaining_points > 0 %s"
+            + "ORDER BY expire_date, id LIMIT :limit";
+    private static final String FIRST_CHUNK_SQL = SELECT_CANDIDATES_SQL.formatted("");
+    // expire_date >= bounds the index range, the OR resumes within the checkpoint's expire_date
+    private static final String NEXT_CHUNK_SQL = SELECT_CANDIDATES_SQL.formatted(
+            "AND expire_date >= :lastExpireDate AND (expire_date > :lastExpireDate OR id > :lastRecordId) ");
+    // only the candidate rows are locked, and only those a concurrent redemption has not emptied are expired
+    private static final String LOCK_CHUNK_SQL =
+            "SELECT id, member_id, remaining_points FROM point_record WHERE id IN (:ids) AND remaining_points > 0 FOR UPDATE";
+    private static final String EXPIRE_RECORDS_SQL =
+            "UPDATE point_record SET remaining_points = 0, version = version + 1, updated_at = :now WHERE id IN (:ids)";
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO point_transaction (member_id, points, type, description, transaction_date, folded, created_at, updated_at) "
+            + "VALUES (?, ?, 'EXPIRE', 'Points expired', ?, ?, ?, ?)";
+    private static final String UPDATE_BALANCE_SQL =
+            "UPDATE point_balance SET expired_points = COALESCE(expired_points, 0) + ?, available_points = available_points - ?, "
+            + "version = version + 1, last_updated = ?, updated_at = ? WHERE member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PointExpiryRunRepository pointExpiryRunRepository;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final TierEvaluationService tierEvaluationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final boolean ledgerEnabled;
+    private final Counter expiredRecordsCounter;
+    private final Counter expiredPointsCounter;
+    private final Timer chunkTimer;
+
+    public PointExpiryService(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate, TransactionTemplate transactionTemplate, PointExpiryRunRepository pointExpiryRunRepository,
+            PointBalanceRepository pointBalanceRepository, TierEvaluationService tierEvaluationService, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry, @Value("${member.points.expiry.chunk-size:5000}") int chunkSize,
+            @Value("${member.points.ledger.enabled:false}") boolean ledgerEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.pointExpiryRunRepository = pointExpiryRunRepository;
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.tierEvaluationService = tierEvaluationService;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.ledgerEnabled = ledgerEnabled;
+        this.expiredRecordsCounter = meterRegistry.counter("points.expiry.records");
+        this.expiredPointsCounter = meterRegistry.counter("points.expiry.points");
+        this.chunkTimer = meterRegistry.timer("points.expiry.chunk");
+    }
+
+    @Scheduled(cron = "${member.points.expiry.cron:0 0 1 * * *}")
+    public void scheduledExpiry() {
+        expireAll();
+    }
+
+    /**
+     * Resumes the last unfinished run, or starts a new one with the current time as cutoff.
+     */
+    public PointExpiryRun expireAll() {
+        PointExpiryRun run = pointExpiryRunRepository.findFirstByStatusOrderByIdDesc(PointExpiryRun.Status.RUNNING)
+                .orElseGet(this::startRun);
+        logger.info("Point expiry run {} started: cutoff={}, resumingAfter=({}, {})", run.getId(), run.getCutoff(),
+                run.getLastExpireDate(), run.getLastRecordId());
+
+        long startNanos = System.nanoTime();
+        long records = 0;
+        long points = 0;
+        int chunkCandidates;
+        do {
+            ChunkResult chunk = chunkTimer.record(() -> transactionTemplate.execute(status -> expireChunk(run)));
+            chunkCandidates = chunk.candidates();
+            records += chunk.records();
+            points += chunk.points();
+            expiredRecordsCounter.increment(chunk.records());
+            expiredPointsCounter.increment(chunk.points());
+        } while (chunkCandidates == chunkSize);
+
+        run.setStatus(PointExpiryRun.Status.COMPLETED);
+        run.setFinishedAt(LocalDateTime.now());
+        PointExpiryRun finished = pointExpiryRunRepository.save(run);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        long throughput = elapsed.toMillis() > 0 ? records * 1000 / elapsed.toMillis() : records;
+        logger.info("Point expiry run {} completed: records={}, points={}, elapsed={}ms, throughput={} records/s",
+                run.getId(), records, points, elapsed.toMillis(), throughput);
+        return finished;
+    }
+
+    private PointExpiryRun startRun() {
+        PointExpiryRun run = new PointExpiryRun();
+        run.setCutoff(LocalDateTime.now());
+        run.setLastRecordId(0L);
+        run.setRecordsExpired(0L);
+        run.setPointsExpired(0L);
+        run.setStatus(PointExpiryRun.Status.RUNNING);
+        run.setStartedAt(LocalDateTime.now());
+        return pointExpiryRunRepository.save(run);
+    }
+
+    private ChunkResult expireChunk(PointExpiryRun run) {
+        MapSqlParameterSource position = new MapSqlParameterSource("cutoff", run.getCutoff())
+                .addValue("lastExpireDate", run.getLastExpireDate())
+                .addValue("lastRecordId", run.getLastRecordId())
+                .addValue("limit", chunkSize);
+        List<Candidate> candidates = namedParameterJdbcTemplate.query(run.getLastExpireDate() == null ? FIRST_CHUNK_SQL : NEXT_CHUNK_SQL, position,
+                (rs, rowNum) -> new Candidate(rs.getLong(1), rs.getObject(2, LocalDateTime.class)));
+        if (candidates.isEmpty()) {
+            return new ChunkResult(0, 0, 0);
+        }
+
+        List<ExpiringRecord> records = namedParameterJdbcTemplate.query(LOCK_CHUNK_SQL,
+                new MapSqlParameterSource("ids", candidates.stream().map(Candidate::id).toList()),
+                (rs, rowNum) -> new ExpiringRecord(rs.getLong(1), rs.getLong(2), rs.getInt(3)));
+        Candidate last = candidates.get(candidates.size() - 1);
+        if (records.isEmpty()) {
+            advance(run, last, 0, 0);
+            return new ChunkResult(candidates.size(), 0, 0);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        namedParameterJdbcTemplate.update(EXPIRE_RECORDS_SQL, new MapSqlParameterSource("now", now)
+                .addValue("ids", records.stream().map(ExpiringRecord::id).toList()));
+
+        Map<Long, Integer> pointsByMember = new HashMap<>();
+        long points = 0;
+        for (ExpiringRecord record : records) {
+            pointsByMember.merge(record.memberId(), record.remainingPoints(), Integer::sum);
+            points += record.remainingPoints();
+        }
+
+        List<Object[]> transactionRows = new ArrayList<>(pointsByMember.size());
+        List<Object[]> balanceRows = new ArrayList<>(pointsByMember.size());
+        pointsByMember.forEach((memberId, expired) -> {
+            transactionRows.add(new Object[] { memberId, -expired, now, !ledgerEnabled, now, now });
+            balanceRows.add(new Object[] { expired, expired, now, now, memberId });
+        });
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactionRows);
+        // in ledger mode the EXPIRE rows stay unfolded and PointLedgerCompactor rolls them into the balances
+        if (!ledgerEnabled) {
+            jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, balanceRows);
+        }
+        pointBalanceRepository.refreshNextExpiryDates(pointsByMember.keySet());
+        tierEvaluationService.enqueueAll(pointsByMember.keySet());
+        eventPublisher.publishEvent(new MemberChangedEvent(pointsByMember.keySet()));
+
+        advance(run, last, records.size(), points);
+        return new ChunkResult(candidates.size(), records.size(), points);
+    }
+
+    private void advance(PointExpiryRun run, Candidate last, int records, long points) {
+        pointExpiryRunRepository.advance(run.getId(), last.expireDate(), last.id(), records, points);
+        run.setLastExpireDate(last.expireDate());
+        run.setLastRecordId(last.id());
+        run.setRecordsExpired(run.getRecordsExpired() + records);
+        run.setPointsExpired(run.getPointsExpired() + points);
+    }
+
+    private record Candidate(long id, LocalDateTime expireDate) {
+    }
+
+    private record ExpiringRecord(long id, long memberId, int remainingPoints) {
+    }
+
+    private record ChunkResult(int candidates, int records, long points) {
+    }
+}
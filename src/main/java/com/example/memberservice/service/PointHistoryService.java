@@ -0,0 +1,103 @@
+package com.example.memberservice.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.example.memberservice.dto.CursorPage;
+import com.example.memberservice.dto.PointTransactionDto;
+import com.example.memberservice.dto.PointTransactionSummaryDto;
+import com.example.memberservice.exception.InvalidPeriodException;
+import com.example.memberservice.exception.MemberNotFoundException;
+import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.repository.PointTransactionRepository;
+import com.example.memberservice.utils.CursorUtils;
+
+@Service
+public class PointHistoryService {
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int DEFAULT_SUMMARY_MONTHS = 12;
+    // one row per day and type, so daily summaries are capped to about a year
+    private static final int MAX_DAILY_SUMMARY_DAYS = 366;
+    // position before every stored transaction, used for the first page so that one query shape serves all pages
+    private static final LocalDateTime FIRST_PAGE_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final MemberRepository memberRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+
+    public PointHistoryService(MemberRepository memberRepository, PointTransactionRepository pointTransactionRepository) {
+        this.memberRepository = memberRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+    }
+
+    public enum SummaryPeriod {
+        MONTH,
+        DAY;
+
+        public static SummaryPeriod parse(String period) {
+            try {
+                return SummaryPeriod.valueOf(period.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidPeriodException("Unsupported summary period: " + period);
+            }
+        }
+    }
+
+    public CursorPage<PointTransactionDto> getTransactions(Long memberId, String cursor, int size, List<String> types) {
+        requireMember(memberId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CursorUtils.DateTimeId position = CursorUtils.decodeDateTimeId(cursor);
+        LocalDateTime beforeDate = position != null ? position.dateTime() : FIRST_PAGE_DATE;
+        long beforeId = position != null ? position.id() : Long.MAX_VALUE;
+
+        // fetch one extra row to learn whether another page exists without a count query
+        Limit limit = Limit.of(pageSize + 1);
+        List<PointTransactionDto> rows = types == null || types.isEmpty()
+                ? pointTransactionRepository.findPageBefore(memberId, beforeDate, beforeId, limit)
+                : pointTransactionRepository.findPageBeforeByTypes(memberId, normalizeTypes(types), beforeDate, beforeId, limit);
+        boolean hasNext = rows.size() > pageSize;
+        List<PointTransactionDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+        PointTransactionDto last = hasNext ? content.get(content.size() - 1) : null;
+        String nextCursor = last != null ? CursorUtils.encodeDateTimeId(last.getTransactionDate(), last.getTransactionId()) : null;
+        return new CursorPage<>(content, content.size(), hasNext, nextCursor);
+    }
+
+    /**
+     * Per-period, per-type totals for the inclusive date range, aggregated by the database over the member's
+     * index range. Without bounds it covers the current month and the eleven before it; a daily summary
+     * spans at most {@value #MAX_DAILY_SUMMARY_DAYS} days.
+     */
+    public List<PointTransactionSummaryDto> getSummary(Long memberId, LocalDate from, LocalDate to, SummaryPeriod period) {
+        requireMember(memberId);
+        LocalDate lastDay = to != null ? to : LocalDate.now();
+        LocalDate firstDay = from != null ? from : lastDay.minusMonths(DEFAULT_SUMMARY_MONTHS - 1).withDayOfMonth(1);
+        if (firstDay.isAfter(lastDay)) {
+            throw new InvalidPeriodException("from must not be after to");
+        }
+        if (period == SummaryPeriod.DAY && ChronoUnit.DAYS.between(firstDay, lastDay) >= MAX_DAILY_SUMMARY_DAYS) {
+            throw new InvalidPeriodException("A daily summary spans at most " + MAX_DAILY_SUMMARY_DAYS + " days");
+        }
+        LocalDateTime start = firstDay.atStartOfDay();
+        LocalDateTime end = lastDay.plusDays(1).atStartOfDay();
+        return period == SummaryPeriod.DAY
+                ? pointTransactionRepository.summarizeByDay(memberId, start, end)
+                : pointTransactionRepository.summarizeByMonth(memberId, start, end);
+    }
+
+    private void requireMember(Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException(memberId);
+        }
+    }
+
+    private static Set<String> normalizeTypes(List<String> types) {
+        return types.stream().map(type -> type.trim().toUpperCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.memberservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Folds unfolded PointTransactions into the PointBalance snapshots. Each chunk locks a run of unfolded
+ * rows, adds their per-member sums to point_balance and marks exactly those rows folded in one
+ * transaction, so a reader sees every delta either in the snapshot or as an unfolded row, never both.
+ * Runs in either mode, so deltas left behind when ledger mode is switched off are still drained.
+ */
+@Service
+public class PointLedgerCompactor {
+    private static final Logger logger = LoggerFactory.getLogger(PointLedgerCompactor.class);
+
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT id, member_id, type, points FROM point_transaction "
+            + "WHERE folded = FALSE ORDER BY folded, member_id, id LIMIT :limit FOR UPDATE";
+    private static final String SELECT_BALANCE_MEMBERS_SQL =
+            "SELECT member_id FROM point_balance WHERE member_id IN (:memberIds)";
+    private static final String FOLD_BALANCE_SQL =
+            "UPDATE point_balance SET total_points = COALESCE(total_points, 0) + :totalPoints, "
+            + "used_points = COALESCE(used_points, 0) + :usedPoints, expired_points = COALESCE(expired_points, 0) + :expiredPoints, "
+            + "available_points = available_points + :availablePoints, version = version + 1, last_updated = :now, updated_at = :now "
+            + "WHERE member_id = :memberId";
+    private static final String MARK_FOLDED_SQL =
+            "UPDATE point_transaction SET folded = TRUE, updated_at = :now WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final MemberRepository memberRepository;
+    private final int chunkSize;
+    private final Counter foldedCounter;
+    private final Timer chunkTimer;
+
+    public PointLedgerCompactor(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, PointBalanceRepository pointBalanceRepository,
+            MemberRepository memberRepository, MeterRegistry meterRegistry, @Value("${member.points.ledger.compaction.chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.memberRepository = memberRepository;
+        this.chunkSize = chunkSize;
+        this.foldedCounter = meterRegistry.counter("points.ledger.folded");
+        this.chunkTimer = meterRegistry.timer("points.ledger.compaction.chunk");
+    }
+
+    @Scheduled(fixedDelayString = "${member.points.ledger.compaction.interval-millis:10000}")
+    public void scheduledCompaction() {
+        compact();
+    }
+
+    /**
+     * Folds every delta that is committed when the run reaches it.
+     *
+     * @return the number of transactions folded
+     */
+    public long compact() {
+        long folded = 0;
+        int chunkRows;
+        do {
+            chunkRows = chunkTimer.record(() -> transactionTemplate.execute(status -> foldChunk()));
+            folded += chunkRows;
+            foldedCounter.increment(chunkRows);
+        } while (chunkRows == chunkSize);
+
+        if (folded > 0) {
+            logger.debug("Folded {} ledger transactions into point balances", folded);
+        }
+        return folded;
+    }
+
+    private int foldChunk() {
+        List<Long> ids = new ArrayList<>(chunkSize);
+        Map<Long, Delta> deltasByMember = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_CHUNK_SQL, new MapSqlParameterSource("limit", chunkSize), rs -> {
+            ids.add(rs.getLong(1));
+            Long memberId = rs.getObject(2, Long.class);
+            // transactions of deleted members have no balance left to fold into
+            if (memberId != null) {
+                deltasByMember.computeIfAbsent(memberId, id -> new Delta()).add(rs.getString(3), rs.getInt(4));
+            }
+        });
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!deltasByMember.isEmpty()) {
+            Set<Long> withBalance = new HashSet<>(jdbcTemplate.queryForList(SELECT_BALANCE_MEMBERS_SQL,
+                    new MapSqlParameterSource("memberIds", deltasByMember.keySet()), Long.class));
+            List<MapSqlParameterSource> updates = new ArrayList<>(deltasByMember.size());
+            List<PointBalance> created = new ArrayList<>();
+            deltasByMember.forEach((memberId, delta) -> {
+                if (withBalance.contains(memberId)) {
+                    updates.add(new MapSqlParameterSource("memberId", memberId)
+                            .addValue("totalPoints", delta.totalPoints)
+                            .addValue("usedPoints", delta.usedPoints)
+                            .addValue("expiredPoints", delta.expiredPoints)
+                            .addValue("availablePoints", delta.availablePoints)
+                            .addValue("now", now));
+                } else {
+                    created.add(delta.toBalance(memberRepository.getReferenceById(memberId), now));
+                }
+            });
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(FOLD_BALANCE_SQL, updates.toArray(MapSqlParameterSource[]::new));
+            }
+            if (!created.isEmpty()) {
+                pointBalanceRepository.saveAllAndFlush(created);
+            }
+            // unfolded earns did not lower the balances' next expiry
+            pointBalanceRepository.refreshNextExpiryDates(deltasByMember.keySet());
+        }
+
+        jdbcTemplate.update(MARK_FOLDED_SQL, new MapSqlParameterSource("ids", ids).addValue("now", now));
+        return ids.size();
+    }
+
+    private static final class Delta {
+        private int totalPoints;
+        private int usedPoints;
+        private int expiredPoints;
+        private int availablePoints;
+
+        void add(String type, int points) {
+            availablePoints += points;
+            if ("EXPIRE".equals(type)) {
+                expiredPoints -= points;
+            } else {
+                totalPoints += points;
+                if ("REDEEM".equals(type)) {
+                    usedPoints -= points;
+                }
+            }
+        }
+
+        PointBalance toBalance(Member member, LocalDateTime now) {
+            PointBalance balance = new PointBalance();
+            balance.setMember(member);
+            balance.setTotalPoints(totalPoints);
+            balance.setUsedPoints(usedPoints);
+            balance.setExpiredPoints(expiredPoints);
+            balance.setAvailablePoints(availablePoints);
+            balance.setLastUpdated(now);
+            return balance;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.memberservice.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.exception.PointRedemptionConflictException;
+import com.example.memberservice.utils.StripedLock;
+
+/**
+ * Contention-aware entry point for redemptions. Each attempt runs PointService.redeemPoints in its own
+ * transaction against the versioned PointRecord rows, and the PointBalance row outside ledger mode; a
+ * version conflict is retried with jittered exponential backoff. With the local lock enabled, redemptions
+ * for the same member on this instance are serialized first, so only cross-instance races reach the
+ * database as conflicts. Attempts pass through the PointTransactionBulkhead; the backoff between them
+ * holds no permit.
+ */
+@Service
+public class PointRedemptionService {
+    private static final Logger logger = LoggerFactory.getLogger(PointRedemptionService.class);
+
+    private final PointService pointService;
+    private final PointTransactionBulkhead bulkhead;
+    private final StripedLock memberLocks;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public PointRedemptionService(PointService pointService, PointTransactionBulkhead bulkhead,
+            @Value("${member.points.redemption.max-attempts:5}") int maxAttempts,
+            @Value("${member.points.redemption.initial-backoff-millis:10}") long initialBackoffMillis,
+            @Value("${member.points.redemption.max-backoff-millis:200}") long maxBackoffMillis,
+            @Value("${member.points.redemption.local-lock.enabled:true}") boolean localLockEnabled,
+            @Value("${member.points.redemption.local-lock.stripes:1024}") int lockStripes) {
+        this.pointService = pointService;
+        this.bulkhead = bulkhead;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.memberLocks = localLockEnabled ? new StripedLock(lockStripes) : null;
+    }
+
+    public void redeemPoints(Member member, Integer pointsToRedeem, String description) {
+        Lock lock = memberLocks != null ? memberLocks.get(member.getId()) : null;
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            redeemWithRetry(member, pointsToRedeem, description);
+        } finally {
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void redeemWithRetry(Member member, Integer pointsToRedeem, String description) {
+        long backoffCeiling = initialBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                bulkhead.run(() -> pointService.redeemPoints(member, pointsToRedeem, description));
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new PointRedemptionConflictException(member.getId(), e);
+                }
+                logger.debug("Redemption conflict for member {} on attempt {}, retrying", member.getId(), attempt);
+                sleep(ThreadLocalRandom.current().nextLong(backoffCeiling + 1));
+                backoffCeiling = Math.min(backoffCeiling * 2, maxBackoffMillis);
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off a point redemption", e);
+        }
+    }
+}
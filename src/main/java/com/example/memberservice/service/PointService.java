@@ -1,54 +1,84 @@
 package com.example.memberservice.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.memberservice.entity.Member;
 import com.example.memberservice.entity.PointBalance;
 import com.example.memberservice.entity.PointRecord;
 import com.example.memberservice.entity.PointTransaction;
 import com.example.memberservice.exception.InsufficientPointBalanceException;
+import com.example.memberservice.exception.InvalidEarnRequestException;
+import com.example.memberservice.exception.MemberNotFoundException;
 import com.example.memberservice.exception.PointBalanceNotFoundException;
+import com.example.memberservice.repository.MemberRepository;
 import com.example.memberservice.repository.PointBalanceRepository;
 import com.example.memberservice.repository.PointRecordRepository;
 import com.example.memberservice.repository.PointTransactionRepository;
 
+/**
+ * Earns, redeems and expires points against the member's PointRecords. By default every operation also
+ * updates the member's PointBalance row in the same transaction. With member.points.ledger.enabled the
+ * balance row is left alone and the PointTransaction insert is the only write besides the records:
+ * balances are read as the PointBalance snapshot plus the member's unfolded transactions until
+ * PointLedgerCompactor folds them in.
+ */
 @Service
 public class PointService {
+    private static final int MAX_REDEMPTION_WINDOW_SIZE = 512;
+    private static final LocalDateTime FIRST_WINDOW_DATE = LocalDateTime.of(1000, 1, 1, 0, 0);
+
     private final PointRecordRepository pointRecordRepository;
     private final PointTransactionRepository pointTransactionRepository;
     private final PointBalanceRepository pointBalanceRepository;
-
-    public PointService(PointRecordRepository pointRecordRepository, PointTransactionRepository pointTransactionRepository, PointBalanceRepository pointBalanceRepository) {
+    private final TierEvaluationService tierEvaluationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberRepository memberRepository;
+    private final PointEarnPipeline earnPipeline;
+    private final PointEarnBatchWriter pointEarnBatchWriter;
+    private final PointTransactionBulkhead bulkhead;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean ledgerEnabled;
+    private final int redemptionWindowSize;
+
+    public PointService(PointRecordRepository pointRecordRepository, PointTransactionRepository pointTransactionRepository, PointBalanceRepository pointBalanceRepository,
+            TierEvaluationService tierEvaluationService, ApplicationEventPublisher eventPublisher, MemberRepository memberRepository, PointEarnPipeline earnPipeline,
+            PointEarnBatchWriter pointEarnBatchWriter, PointTransactionBulkhead bulkhead, TransactionTemplate transactionTemplate,
+            @Value("${member.points.ledger.enabled:false}") boolean ledgerEnabled,
+            @Value("${member.points.redemption.window-size:8}") int redemptionWindowSize) {
         this.pointRecordRepository = pointRecordRepository;
         this.pointTransactionRepository = pointTransactionRepository;
         this.pointBalanceRepository = pointBalanceRepository;
+        this.tierEvaluationService = tierEvaluationService;
+        this.eventPublisher = eventPublisher;
+        this.memberRepository = memberRepository;
+        this.earnPipeline = earnPipeline;
+        this.pointEarnBatchWriter = pointEarnBatchWriter;
+        this.bulkhead = bulkhead;
+        this.transactionTemplate = transactionTemplate;
+        this.ledgerEnabled = ledgerEnabled;
+        this.redemptionWindowSize = redemptionWindowSize;
     }
-    
+
     @Transactional
     public void redeemPoints(Member member, Integer pointsToRedeem, String description) {
-        List<PointRecord> availableRecords = pointRecordRepository.findAvailablePoints(member, LocalDateTime.now());
-
-        int remaining = pointsToRedeem;
-
-        for (PointRecord record : availableRecords) {
-            if (record.getRemainingPoints() == 0) continue;
-
-            int used = Math.min(remaining, record.getRemainingPoints());
-            record.setRemainingPoints(record.getRemainingPoints() - used);
-            remaining -= used;
-
-            if (remaining <= 0) break;
+        PointBalance balance = null;
+        if (!ledgerEnabled) {
+            balance = pointBalanceRepository.findByMember(member).orElseThrow(() -> new PointBalanceNotFoundException(member.getId()));
+            initializeAvailablePoints(balance, member);
         }
 
-        if (remaining > 0) {
-            throw new InsufficientPointBalanceException("Not enough points to redeem.");
-        }
-
-        pointRecordRepository.saveAll(availableRecords);
+        List<PointRecord> consumedRecords = allocateFromWindows(member, pointsToRedeem);
+        pointRecordRepository.saveAll(consumedRecords);
 
         PointTransaction txn = new PointTransaction();
         txn.setMember(member);
@@ -56,17 +86,38 @@ public class PointService {
         txn.setType("REDEEM");
         txn.setTransactionDate(LocalDateTime.now());
         txn.setDescription(description);
+        txn.setFolded(!ledgerEnabled);
         pointTransactionRepository.save(txn);
 
-        PointBalance balance = pointBalanceRepository.findByMember(member).orElseThrow(() -> new PointBalanceNotFoundException(member.getId()));
-        balance.setTotalPoints(balance.getTotalPoints() - pointsToRedeem);
-        balance.setUsedPoints(balance.getUsedPoints() + pointsToRedeem);
-        balance.setLastUpdated(LocalDateTime.now());
-        pointBalanceRepository.save(balance);
+        if (balance != null) {
+            balance.setTotalPoints(balance.getTotalPoints() - pointsToRedeem);
+            balance.setUsedPoints(balance.getUsedPoints() + pointsToRedeem);
+            balance.setAvailablePoints(balance.getAvailablePoints() - pointsToRedeem);
+            balance.setLastUpdated(LocalDateTime.now());
+            pointBalanceRepository.save(balance);
+        }
+
+        tierEvaluationService.enqueue(member.getId());
+        eventPublisher.publishEvent(MemberChangedEvent.of(member.getId()));
     }
 
     @Transactional
     public void earnPoints(Member member, Integer pointsEarned, String source, String description, LocalDateTime expireAt) {
+        PointBalance balance = null;
+        if (!ledgerEnabled) {
+            balance = pointBalanceRepository.findByMember(member)
+                .orElseGet(() -> {
+                    PointBalance b = new PointBalance();
+                    b.setMember(member);
+                    b.setTotalPoints(0);
+                    b.setUsedPoints(0);
+                    b.setExpiredPoints(0);
+                    b.setAvailablePoints(0);
+                    return b;
+                });
+            initializeAvailablePoints(balance, member);
+        }
+
         PointRecord pointRecord = new PointRecord();
         pointRecord.setMember(member);
         pointRecord.setPoints(pointsEarned);
@@ -82,18 +133,114 @@ public class PointService {
         txn.setType("EARN");
         txn.setTransactionDate(LocalDateTime.now());
         txn.setDescription(description);
+        txn.setFolded(!ledgerEnabled);
         pointTransactionRepository.save(txn);
 
-        PointBalance balance = pointBalanceRepository.findByMember(member)
-            .orElseGet(() -> {
-                PointBalance b = new PointBalance();
-                b.setMember(member);
-                b.setTotalPoints(0);
-                b.setUsedPoints(0);
-                return b;
-            });
-        balance.setTotalPoints(balance.getTotalPoints() + pointsEarned);
-        balance.setLastUpdated(LocalDateTime.now());
-        pointBalanceRepository.save(balance);
+        if (balance != null) {
+            balance.setTotalPoints(balance.getTotalPoints() + pointsEarned);
+            balance.setAvailablePoints(balance.getAvailablePoints() + pointsEarned);
+            if (balance.getNextExpiryDate() == null || expireAt.isBefore(balance.getNextExpiryDate())) {
+                balance.setNextExpiryDate(expireAt);
+            }
+            balance.setLastUpdated(LocalDateTime.now());
+            pointBalanceRepository.save(balance);
+        }
+
+        tierEvaluationService.enqueue(member.getId());
+        eventPublisher.publishEvent(MemberChangedEvent.of(member.getId()));
+    }
+
+    /**
+     * Earns through the PointEarnPipeline when it is enabled, otherwise in a transaction of its own on the
+     * calling thread, through the PointTransactionBulkhead and the same PointEarnBatchWriter the pipeline
+     * uses, so the balance is incremented in place rather than read and written back. Either way the
+     * returned future completes once the earn is committed.
+     */
+    public CompletableFuture<Void> earnPointsAsync(Long memberId, Integer pointsEarned, String source, String description, LocalDateTime expireAt) {
+        if (memberId == null) {
+            throw new InvalidEarnRequestException("Member id is required");
+        }
+        if (pointsEarned == null || pointsEarned <= 0) {
+            throw new InvalidEarnRequestException("Points must be positive");
+        }
+        if (expireAt == null || !expireAt.isAfter(LocalDateTime.now())) {
+            throw new InvalidEarnRequestException("Expiry must be in the future");
+        }
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException(memberId);
+        }
+        if (!earnPipeline.isEnabled()) {
+            PointEarnBatchWriter.Earn earn = new PointEarnBatchWriter.Earn(memberId, pointsEarned, source, description, expireAt);
+            bulkhead.run(() -> transactionTemplate.executeWithoutResult(status -> pointEarnBatchWriter.write(List.of(earn))));
+            return CompletableFuture.completedFuture(null);
+        }
+        return earnPipeline.submit(memberId, pointsEarned, source, description, expireAt);
+    }
+
+    /**
+     * Fetches the member's available records oldest first in windows that start at redemptionWindowSize
+     * and double up to MAX_REDEMPTION_WINDOW_SIZE, and stops as soon as the points are covered.
+     *
+     * @return the records the redemption consumed points from
+     */
+    private List<PointRecord> allocateFromWindows(Member member, int pointsToRedeem) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PointRecord> consumed = new ArrayList<>();
+        LocalDateTime afterReceivedDate = FIRST_WINDOW_DATE;
+        long afterId = 0L;
+        int windowSize = redemptionWindowSize;
+        int remaining = pointsToRedeem;
+        while (remaining > 0) {
+            List<PointRecord> window = pointRecordRepository.findAvailablePointsAfter(member, now, afterReceivedDate, afterId, Limit.of(windowSize));
+            remaining = allocateFifo(window, remaining, consumed);
+            if (window.size() < windowSize) {
+                break;
+            }
+            PointRecord last = window.get(window.size() - 1);
+            afterReceivedDate = last.getReceivedDate();
+            afterId = last.getId();
+            windowSize = Math.min(windowSize * 2, MAX_REDEMPTION_WINDOW_SIZE);
+        }
+        if (remaining > 0) {
+            throw new InsufficientPointBalanceException("Not enough points to redeem.");
+        }
+        return consumed;
+    }
+
+    /**
+     * Consumes points from the records in the given (oldest first) order.
+     *
+     * @return the points that could not be covered, zero when the records were sufficient
+     */
+    static int allocateFifo(List<PointRecord> records, int pointsToRedeem) {
+        return allocateFifo(records, pointsToRedeem, null);
+    }
+
+    /**
+     * Same as {@link #allocateFifo(List, int)}, also collecting every record points were taken from
+     * into {@code consumed} when it is not null.
+     */
+    static int allocateFifo(List<PointRecord> records, int pointsToRedeem, List<PointRecord> consumed) {
+        int remaining = pointsToRedeem;
+
+        for (PointRecord record : records) {
+            if (remaining <= 0) break;
+            if (record.getRemainingPoints() == 0) continue;
+
+            int used = Math.min(remaining, record.getRemainingPoints());
+            record.setRemainingPoints(record.getRemainingPoints() - used);
+            remaining -= used;
+            if (consumed != null) {
+                consumed.add(record);
+            }
+        }
+        return remaining;
+    }
+
+    // Balances created before availablePoints existed are derived once, before this transaction mutates any record.
+    private void initializeAvailablePoints(PointBalance balance, Member member) {
+        if (balance.getAvailablePoints() == null) {
+            balance.setAvailablePoints(pointRecordRepository.sumRemainingPoints(member));
+        }
     }
 }
@@ -0,0 +1,61 @@
+package com.example.memberservice.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.memberservice.exception.ServiceBusyException;
+
+/**
+ * Caps how many point transactions (earns, pipelined earn batches, redemptions, batch earns) run at once,
+ * below the connection pool size so that logins and reads always find a free connection. Callers wait on
+ * the semaphore before the transaction opens; unlike a wait inside the pool or on a monitor, this parks a
+ * virtual thread instead of pinning its carrier.
+ */
+@Component
+public class PointTransactionBulkhead {
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public PointTransactionBulkhead(@Value("${member.points.bulkhead.permits:16}") int permits,
+            @Value("${member.points.bulkhead.acquire-timeout-millis:2000}") long acquireTimeoutMillis) {
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public <T> T call(Supplier<T> transaction) {
+        acquire();
+        try {
+            return transaction.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void run(Runnable transaction) {
+        acquire();
+        try {
+            transaction.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceBusyException("Point service is busy, please retry");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for the point service");
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.memberservice.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.dto.MemberTierDto;
+import com.example.memberservice.entity.MemberLevel;
+import com.example.memberservice.repository.MemberRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Moves members between tiers by their available points against MemberLevel.minPointsRequired;
+ * members without a level are placed in the tier their balance qualifies for.
+ * Balance changes enqueue the member for a cheap re-evaluation that is drained in batches; a nightly
+ * sweep walks the whole member table in primary-key ranges. Both read each member's level and available
+ * points once, with the definition the member summaries use, and only update the members that move,
+ * one UPDATE per pair of levels; no Member entity is loaded.
+ */
+@Service
+public class TierEvaluationService {
+    private static final Logger logger = LoggerFactory.getLogger(TierEvaluationService.class);
+
+    // the level is checked again, so a member whose level changed since it was read is left alone
+    private static final String UPDATE_TIER_SQL =
+            "UPDATE member SET member_level_id = :targetLevelId, updated_at = :now WHERE id IN (:memberIds) AND %s";
+    private static final String FROM_LEVEL = "member_level_id = :fromLevelId";
+    private static final String WITHOUT_LEVEL = "member_level_id IS NULL";
+    private static final String MAX_MEMBER_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM member";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberRepository memberRepository;
+    private final MemberLevelCache memberLevelCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int sweepRangeSize;
+    private final Counter promotionsCounter;
+    private final Counter demotionsCounter;
+    private final Set<Long> pendingMemberIds = ConcurrentHashMap.newKeySet();
+
+    public TierEvaluationService(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, MemberRepository memberRepository, MemberLevelCache memberLevelCache,
+            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry, @Value("${member.tier.evaluation.batch-size:1000}") int batchSize,
+            @Value("${member.tier.sweep.range-size:50000}") int sweepRangeSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.memberRepository = memberRepository;
+        this.memberLevelCache = memberLevelCache;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.sweepRangeSize = sweepRangeSize;
+        this.promotionsCounter = meterRegistry.counter("member.tier.promotions");
+        this.demotionsCounter = meterRegistry.counter("member.tier.demotions");
+    }
+
+    /**
+     * Queues the member for re-evaluation once the current transaction commits, so a rolled back balance
+     * change never moves a tier.
+     */
+    public void enqueue(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingMemberIds.add(memberId);
+                }
+            });
+        } else {
+            pendingMemberIds.add(memberId);
+        }
+    }
+
+    /**
+     * Same as {@link #enqueue(Long)} for many members with a single synchronization.
+     */
+    public void enqueueAll(Collection<Long> memberIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> ids = List.copyOf(memberIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingMemberIds.addAll(ids);
+                }
+            });
+        } else {
+            pendingMemberIds.addAll(memberIds);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${member.tier.evaluation.interval-millis:5000}")
+    public void evaluatePending() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (!pendingMemberIds.isEmpty()) {
+            Iterator<Long> iterator = pendingMemberIds.iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> memberIds = List.copyOf(batch);
+            TierChanges changes = evaluate(now -> memberRepository.findTiers(memberIds, now));
+            logger.debug("Tier evaluation of {} members: promoted={}, demoted={}", batch.size(), changes.promotions(), changes.demotions());
+            batch.clear();
+        }
+    }
+
+    @Scheduled(cron = "${member.tier.sweep.cron:0 0 2 * * *}")
+    public void scheduledSweep() {
+        sweepAll();
+    }
+
+    /**
+     * Re-evaluates every member, one primary-key range per transaction.
+     */
+    public TierChanges sweepAll() {
+        long startNanos = System.nanoTime();
+        long maxId = jdbcTemplate.getJdbcTemplate().queryForObject(MAX_MEMBER_ID_SQL, Long.class);
+        long promotions = 0;
+        long demotions = 0;
+        for (long fromId = 0; fromId < maxId; fromId += sweepRangeSize) {
+            long from = fromId;
+            TierChanges changes = evaluate(now -> memberRepository.findTiersInRange(from, from + sweepRangeSize, now));
+            promotions += changes.promotions();
+            demotions += changes.demotions();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        logger.info("Tier sweep completed: maxMemberId={}, promoted={}, demoted={}, elapsed={}ms", maxId, promotions, demotions, elapsed.toMillis());
+        return new TierChanges(promotions, demotions);
+    }
+
+    private TierChanges evaluate(Function<LocalDateTime, List<MemberTierDto>> tiers) {
+        List<MemberLevel> levels = memberLevelCache.findAllOrderedByMinPoints();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Move, List<Long>> moves = new LinkedHashMap<>();
+            for (MemberTierDto tier : tiers.apply(now)) {
+                int current = indexOf(levels, tier.getMemberLevelId());
+                int target = targetIndex(levels, tier.getAvailablePoints());
+                // members below the lowest tier or on a level that is not ranked stay where they are
+                if (target < 0 || current == target || (current < 0 && tier.getMemberLevelId() != null)) {
+                    continue;
+                }
+                moves.computeIfAbsent(new Move(tier.getMemberLevelId(), levels.get(target).getId(), current < target), move -> new ArrayList<>())
+                        .add(tier.getMemberId());
+            }
+
+            long promotions = 0;
+            long demotions = 0;
+            List<Long> moved = new ArrayList<>();
+            for (Map.Entry<Move, List<Long>> entry : moves.entrySet()) {
+                Move move = entry.getKey();
+                int updated = update(move, entry.getValue(), now);
+                if (move.promotion()) {
+                    promotions += updated;
+                } else {
+                    demotions += updated;
+                }
+                if (updated > 0) {
+                    moved.addAll(entry.getValue());
+                }
+            }
+            promotionsCounter.increment(promotions);
+            demotionsCounter.increment(demotions);
+            if (!moved.isEmpty()) {
+                eventPublisher.publishEvent(new MemberChangedEvent(moved));
+            }
+            return new TierChanges(promotions, demotions);
+        });
+    }
+
+    private int update(Move move, List<Long> memberIds, LocalDateTime now) {
+        String sql = String.format(UPDATE_TIER_SQL, move.fromLevelId() == null ? WITHOUT_LEVEL : FROM_LEVEL);
+        int updated = 0;
+        for (int from = 0; from < memberIds.size(); from += batchSize) {
+            updated += jdbcTemplate.update(sql, new MapSqlParameterSource("memberIds", memberIds.subList(from, Math.min(from + batchSize, memberIds.size())))
+                    .addValue("targetLevelId", move.targetLevelId())
+                    .addValue("fromLevelId", move.fromLevelId())
+                    .addValue("now", now));
+        }
+        return updated;
+    }
+
+    private static int indexOf(List<MemberLevel> levels, Long levelId) {
+        for (int i = 0; i < levels.size(); i++) {
+            if (levels.get(i).getId().equals(levelId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The highest level whose minimum the points reach; of levels with the same minimum, the last one.
+     */
+    private static int targetIndex(List<MemberLevel> levels, Integer availablePoints) {
+        long points = availablePoints == null ? 0 : availablePoints;
+        int target = -1;
+        for (int i = 0; i < levels.size() && minPoints(levels.get(i)) <= points; i++) {
+            target = i;
+        }
+        return target;
+    }
+
+    private static long minPoints(MemberLevel level) {
+        return level.getMinPointsRequired() == null ? 0 : level.getMinPointsRequired();
+    }
+
+    public record TierChanges(long promotions, long demotions) {
+    }
+
+    private record Move(Long fromLevelId, Long targetLevelId, boolean promotion) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.memberservice.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.memberservice.entity.RevokedToken;
+import com.example.memberservice.repository.RevokedTokenRepository;
+import com.example.memberservice.utils.TokenDenylist;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Persists revoked JWT IDs and keeps the in-memory TokenDenylist in step with the table: fully loaded
+ * before the web server accepts requests, then topped up with revocations from other instances and purged
+ * of expired entries on a fixed delay.
+ */
+@Service
+public class TokenRevocationService {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    // overlap between syncs, so a revocation committed just before the last sync read is not missed
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenylist tokenDenylist;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, TokenDenylist tokenDenylist, MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenDenylist = tokenDenylist;
+        Gauge.builder("auth.revoked_tokens", tokenDenylist, TokenDenylist::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        for (RevokedToken revokedToken : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            tokenDenylist.add(revokedToken.getTokenId(), toInstant(revokedToken.getExpiresAt()));
+        }
+        lastSyncedAt = now;
+        logger.info("Loaded {} revoked tokens", tokenDenylist.size());
+    }
+
+    @Scheduled(fixedDelayString = "${member.security.revocation.sync-interval-millis:30000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        for (RevokedToken revokedToken : revokedTokenRepository.findByCreatedAtGreaterThanEqual(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS))) {
+            tokenDenylist.add(revokedToken.getTokenId(), toInstant(revokedToken.getExpiresAt()));
+        }
+        lastSyncedAt = now;
+        tokenDenylist.purgeExpired(Instant.now());
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    /**
+     * Revokes the token until it expires. Tokens issued before JWT IDs were added cannot be revoked and
+     * are ignored; they expire on their own.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || tokenDenylist.isRevoked(tokenId)) {
+            return;
+        }
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setTokenId(tokenId);
+        revokedToken.setExpiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+        revokedTokenRepository.save(revokedToken);
+        tokenDenylist.add(tokenId, expiresAt);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenDenylist.isRevoked(tokenId);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
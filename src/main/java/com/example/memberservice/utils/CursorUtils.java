@@ -0,0 +1,61 @@
+package com.example.memberservice.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.example.memberservice.exception.InvalidCursorException;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe continuation tokens.
+ */
+public class CursorUtils {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static String encodeId(long id) {
+        return ENCODER.encodeToString(Long.toString(id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            long id = Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.US_ASCII));
+            if (id < 0) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    public static String encodeDateTimeId(LocalDateTime dateTime, long id) {
+        return ENCODER.encodeToString((dateTime + "|" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @return the decoded position, or null for a missing cursor (first page)
+     */
+    public static DateTimeId decodeDateTimeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new DateTimeId(LocalDateTime.parse(decoded.substring(0, separator)), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    public record DateTimeId(LocalDateTime dateTime, long id) {
+    }
+}
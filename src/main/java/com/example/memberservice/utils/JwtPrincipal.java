@@ -0,0 +1,19 @@
+package com.example.memberservice.utils;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The claims JwtFilter needs from a verified token, extracted once and cached until the token expires.
+ */
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+    private final String tokenId;
+    private final String subject;
+    private final String type;
+    private final String role;
+    private final Instant expiresAt;
+}
@@ -1,9 +1,16 @@
 package com.example.memberservice.utils;
 
-import java.sql.Date;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.auth0.jwt.JWT;
@@ -11,6 +18,9 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 @Component
 public class JwtUtils {
@@ -21,36 +31,66 @@ public class JwtUtils {
     private final int accessTokenExpiration = 86400;
     private final int refreshTokenExpiration = 604800;
 
-    public String createAccessToken(String username) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        return JWT.create()
-            .withSubject(username)
-            .withExpiresAt(new Date(System.currentTimeMillis() + accessTokenExpiration * 1000L))
+    // Algorithm and JWTVerifier are immutable and thread-safe, so one instance serves every request
+    private final Algorithm algorithm = Algorithm.HMAC256(secretKey);
+    private final JWTVerifier verifier = JWT.require(algorithm)
             .withIssuer(issuer)
-            .withClaim("type", "ACCESS")
-            .withClaim("role", "USER")
-            .sign(algorithm);
+            .build();
+
+    private final Cache<String, JwtPrincipal> principalCache;
+
+    public JwtUtils(@Value("${member.security.jwt.principal-cache-size:10000}") long principalCacheSize) {
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(principalCacheSize)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), principal.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, principal, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public String createAccessToken(String username) {
+        return createAccessToken(username, "USER");
+    }
+
+    /**
+     * Access token for a non-member principal, e.g. a POS terminal with role POS. Never issued through /api/auth.
+     */
+    public String createAccessToken(String username, String role) {
+        return createToken(username, "ACCESS", role, Instant.now().plusSeconds(accessTokenExpiration));
     }
 
     public String createRefreshToken(String username) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+        return createToken(username, "REFRESH", "USER", Instant.now().plusSeconds(refreshTokenExpiration));
+    }
+
+    String createToken(String username, String type, String role, Instant expiresAt) {
         return JWT.create()
+            .withJWTId(UUID.randomUUID().toString())
             .withSubject(username)
-            .withExpiresAt(new Date(System.currentTimeMillis() + refreshTokenExpiration * 1000L))
+            .withExpiresAt(expiresAt)
             .withIssuer(issuer)
-            .withClaim("type", "REFRESH")
-            .withClaim("role", "USER")
+            .withClaim("type", type)
+            .withClaim("role", role)
             .sign(algorithm);
     }
 
     public DecodedJWT validateToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(issuer)
-                    .build();
             DecodedJWT decodedJWT = verifier.verify(token);
-            logger.info("Token validated successfully for subject: {}", decodedJWT.getSubject());
+            logger.debug("Token validated successfully for subject: {}", decodedJWT.getSubject());
             return decodedJWT;
         } catch (JWTVerificationException exception) {
             logger.error("JWT Validation failed: {}", exception.getMessage());
@@ -61,6 +101,34 @@ public class JwtUtils {
         }
     }
 
+    /**
+     * Returns the principal of a valid token, or null. Revocation is not checked here, see TokenDenylist. Verified tokens are cached by SHA-256 digest
+     * until their expiry, so repeated requests with the same token skip signature verification.
+     */
+    public JwtPrincipal resolvePrincipal(String token) {
+        if (token == null) {
+            return null;
+        }
+        String digest = digest(token);
+        JwtPrincipal cached = principalCache.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        DecodedJWT decodedJWT = validateToken(token);
+        if (decodedJWT == null || decodedJWT.getExpiresAtAsInstant() == null) {
+            return null;
+        }
+        JwtPrincipal principal = new JwtPrincipal(
+                decodedJWT.getId(),
+                getUsernameFromToken(decodedJWT),
+                getClaimFromToken(decodedJWT, "type"),
+                getClaimFromToken(decodedJWT, "role"),
+                decodedJWT.getExpiresAtAsInstant());
+        principalCache.put(digest, principal);
+        return principal;
+    }
+
     public String getUsernameFromToken(DecodedJWT decodedJWT) {
         if (decodedJWT != null) {
             return decodedJWT.getSubject();
@@ -74,4 +142,13 @@ public class JwtUtils {
         }
         return null;
     }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -1,30 +1,80 @@
 package com.example.memberservice.utils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class PhoneNumberUtils {
+    private static final int NORMALIZED_LENGTH = 12;
+
+    /**
+     * Keeps only ASCII digits and '+', then rewrites the local "0" or bare "66" prefix to "+66".
+     * Scans the input once without regular expressions; input that is already normalized is returned as is.
+     */
     public static String normalize(String rawPhoneNumber) {
         if (rawPhoneNumber == null || rawPhoneNumber.isBlank()) {
             throw new IllegalArgumentException("Phone number cannot be null or empty");
         }
 
-        String digitsOnly = rawPhoneNumber.replaceAll("[^0-9+]", "");
+        int length = rawPhoneNumber.length();
+        // two leading slots leave room to turn a leading "0" into "+66" without shifting
+        char[] buffer = new char[length + 2];
+        int end = 2;
+        for (int i = 0; i < length; i++) {
+            char c = rawPhoneNumber.charAt(i);
+            if (isAsciiDigit(c) || c == '+') {
+                buffer[end++] = c;
+            }
+        }
+        int kept = end - 2;
 
-        if (digitsOnly.startsWith("0")) {
-            return "+66" + digitsOnly.substring(1);
+        if (kept >= 1 && buffer[2] == '0') {
+            buffer[0] = '+';
+            buffer[1] = '6';
+            buffer[2] = '6';
+            return new String(buffer, 0, end);
         }
 
-        if (digitsOnly.startsWith("+66")) {
-            return digitsOnly;
+        if (kept >= 3 && buffer[2] == '+' && buffer[3] == '6' && buffer[4] == '6') {
+            return kept == length ? rawPhoneNumber : new String(buffer, 2, kept);
         }
 
-        if (digitsOnly.startsWith("66")) {
-            return "+" + digitsOnly;
+        if (kept >= 2 && buffer[2] == '6' && buffer[3] == '6') {
+            buffer[1] = '+';
+            return new String(buffer, 1, kept + 1);
         }
 
         throw new IllegalArgumentException("Invalid Thai phone number format");
     }
 
+    /**
+     * Normalizes a whole column of numbers, e.g. from a partner import. Entries that cannot be
+     * normalized are returned as null at the same position instead of failing the batch.
+     */
+    public static List<String> normalizeAll(List<String> rawPhoneNumbers) {
+        List<String> normalized = new ArrayList<>(rawPhoneNumbers.size());
+        for (String raw : rawPhoneNumbers) {
+            try {
+                normalized.add(normalize(raw));
+            } catch (IllegalArgumentException e) {
+                normalized.add(null);
+            }
+        }
+        return normalized;
+    }
+
     public static boolean isValid(String normalizedPhone) {
-        return normalizedPhone != null && normalizedPhone.matches("^\\+66[0-9]{9}$");
+        if (normalizedPhone == null || normalizedPhone.length() != NORMALIZED_LENGTH) {
+            return false;
+        }
+        if (normalizedPhone.charAt(0) != '+' || normalizedPhone.charAt(1) != '6' || normalizedPhone.charAt(2) != '6') {
+            return false;
+        }
+        for (int i = 3; i < NORMALIZED_LENGTH; i++) {
+            if (!isAsciiDigit(normalizedPhone.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static String toLocalFormat(String normalizedPhone) {
@@ -33,4 +83,8 @@ public class PhoneNumberUtils {
         }
         throw new IllegalArgumentException("Invalid normalized Thai phone number");
     }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
@@ -0,0 +1,98 @@
+package com.example.memberservice.utils;
+
+public class SqlFingerprint {
+    private static final int MAX_LENGTH = 500;
+
+    /**
+     * Reduces a statement to its shape for logging and grouping: string and numeric literals become '?',
+     * runs of whitespace collapse to one space and IN lists of placeholders collapse to "(?...)", so the
+     * same query with different bind values or list lengths yields one fingerprint and no values leak.
+     * Scans the input once; the result is truncated to MAX_LENGTH characters.
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(length, MAX_LENGTH));
+        int i = 0;
+        while (i < length && out.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // quoted literal, '' is an escaped quote inside it
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+            } else if (isDigit(c) && !isIdentifierPart(previous(out))) {
+                while (i < length && (isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (out.length() > 0) {
+                    out.append(' ');
+                }
+            } else if (c == '(' && placeholderListEnd(sql, i) > 0) {
+                i = placeholderListEnd(sql, i);
+                out.append("(?...)");
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        out.setLength(end);
+        return out.toString();
+    }
+
+    // index after the ')' of a "(?, ?, ...)" list with at least two placeholders, or -1
+    private static int placeholderListEnd(String sql, int open) {
+        int placeholders = 0;
+        boolean expectPlaceholder = true;
+        for (int i = open + 1; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (expectPlaceholder && c == '?') {
+                placeholders++;
+                expectPlaceholder = false;
+            } else if (!expectPlaceholder && c == ',') {
+                expectPlaceholder = true;
+            } else if (!expectPlaceholder && c == ')') {
+                return placeholders > 1 ? i + 1 : -1;
+            } else {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static char previous(StringBuilder out) {
+        return out.length() == 0 ? ' ' : out.charAt(out.length() - 1);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.memberservice.utils;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory set of revoked JWT IDs, checked on every authenticated request with a single hash lookup.
+ * An ID is only kept until the token it belongs to expires; after that the token fails verification anyway.
+ */
+@Component
+public class TokenDenylist {
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+
+    public void add(String tokenId, Instant expiresAt) {
+        if (expiresAt.isAfter(Instant.now())) {
+            revoked.put(tokenId, expiresAt);
+        }
+    }
+
+    public int purgeExpired(Instant now) {
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        return before - revoked.size();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
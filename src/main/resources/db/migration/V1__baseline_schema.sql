@@ -0,0 +1,22 @@
+-- Schema as generated by Hibernate (MariaDBDialect) before migrations were introduced.
+-- Databases that already hold these tables are baselined at version 1 and skip this script.
+create sequence account_seq start with 1 increment by 50 nocache;
+create sequence member_seq start with 1 increment by 50 nocache;
+create sequence point_balance_seq start with 1 increment by 50 nocache;
+
+create table account (enabled bit, created_at datetime(6), id bigint not null, last_login_at datetime(6), member_id bigint not null, updated_at datetime(6), username varchar(50) not null, password varchar(255) not null, profile_picture_url varchar(255), primary key (id)) engine=InnoDB;
+create table member (date_of_birth date, created_at datetime(6), id bigint not null, member_level_id bigint, updated_at datetime(6), email varchar(255), first_name varchar(255), last_name varchar(255), phone_number varchar(255), primary key (id)) engine=InnoDB;
+create table member_level (min_points_required integer, created_at datetime(6), id bigint not null auto_increment, updated_at datetime(6), description varchar(255), level enum ('BRONZE','GOLD','PLATINUM','SILVER'), primary key (id)) engine=InnoDB;
+create table point_balance (available_points integer, expired_points integer, total_points integer, used_points integer, created_at datetime(6), id bigint not null, last_updated datetime(6), member_id bigint, updated_at datetime(6), version bigint default 0 not null, primary key (id)) engine=InnoDB;
+create table point_expiry_run (created_at datetime(6), cutoff datetime(6), finished_at datetime(6), id bigint not null auto_increment, last_record_id bigint, points_expired bigint, records_expired bigint, started_at datetime(6), updated_at datetime(6), status enum ('COMPLETED','RUNNING'), primary key (id)) engine=InnoDB;
+create table point_record (points integer, remaining_points integer, created_at datetime(6), expire_date datetime(6), id bigint not null auto_increment, member_id bigint, received_date datetime(6), updated_at datetime(6), version bigint default 0 not null, source varchar(255), primary key (id)) engine=InnoDB;
+create table point_transaction (points integer, created_at datetime(6), id bigint not null auto_increment, member_id bigint, transaction_date datetime(6), updated_at datetime(6), description varchar(255), type varchar(255), primary key (id)) engine=InnoDB;
+
+alter table account add constraint UK6e0fggoup5ucnlg21hwxmbl36 unique (member_id);
+alter table account add constraint UKgex1lmaqpg0ir5g1f5eftyaa1 unique (username);
+alter table point_balance add constraint UKqfau61lfp7tsg9fw2pigt4k78 unique (member_id);
+alter table account add constraint FKr5j0huynd7nsv1s7e9vb8qvwo foreign key (member_id) references member (id);
+alter table member add constraint FK8jlqfg5xqj5epm9fpke6iotfw foreign key (member_level_id) references member_level (id);
+alter table point_balance add constraint FK639f956vt69fvueh7i7jjbbyv foreign key (member_id) references member (id);
+alter table point_record add constraint FKirxm53it5dgmmu9bl6mepinnx foreign key (member_id) references member (id);
+alter table point_transaction add constraint FKjsv3horc3lg49rbhwea598ahn foreign key (member_id) references member (id);
@@ -0,0 +1,41 @@
+-- Brings a database created by ddl-auto up to the V1 schema, whichever entity revision created it.
+-- Every statement is a no-op on a database created by V1.
+create sequence if not exists account_seq start with 1 increment by 50 nocache;
+create sequence if not exists member_seq start with 1 increment by 50 nocache;
+create sequence if not exists point_balance_seq start with 1 increment by 50 nocache;
+
+alter table point_balance add column if not exists available_points integer;
+alter table point_balance add column if not exists version bigint default 0 not null;
+alter table point_record add column if not exists version bigint default 0 not null;
+
+create table if not exists point_expiry_run (created_at datetime(6), cutoff datetime(6), finished_at datetime(6), id bigint not null auto_increment, last_record_id bigint, points_expired bigint, records_expired bigint, started_at datetime(6), updated_at datetime(6), status enum ('COMPLETED','RUNNING'), primary key (id)) engine=InnoDB;
+
+-- Databases created by ddl-auto before this migration may still carry the unique constraint of the former
+-- @OneToOne Member.memberLevel mapping, which allowed only one member per level.
+set @legacy_level_index = (
+    select s.index_name from information_schema.statistics s
+    where s.table_schema = database() and s.table_name = 'member' and s.column_name = 'member_level_id'
+      and s.non_unique = 0
+    limit 1);
+set @drop_legacy_level_index = if(@legacy_level_index is null, 'do 0',
+    concat('alter table member drop index `', @legacy_level_index, '`'));
+prepare stmt from @drop_legacy_level_index;
+execute stmt;
+deallocate prepare stmt;
+
+-- Sequences added when ids switched from IDENTITY started at 1 on existing tables. Move them one full
+-- allocation (50) past the highest id, so that the pooled optimizer never hands out an existing id.
+set @restart = concat('alter sequence member_seq restart with ', (select coalesce(max(id), 0) + 51 from member));
+prepare stmt from @restart;
+execute stmt;
+deallocate prepare stmt;
+
+set @restart = concat('alter sequence account_seq restart with ', (select coalesce(max(id), 0) + 51 from account));
+prepare stmt from @restart;
+execute stmt;
+deallocate prepare stmt;
+
+set @restart = concat('alter sequence point_balance_seq restart with ', (select coalesce(max(id), 0) + 51 from point_balance));
+prepare stmt from @restart;
+execute stmt;
+deallocate prepare stmt;
@@ -0,0 +1,11 @@
+-- sumAvailablePoints, sumExpiredRemainingPoints, sumRemainingPoints and the per-member SUM subqueries of
+-- the member listings; covers the SUMs without touching the rows.
+create index idx_point_record_member_expire on point_record (member_id, expire_date, remaining_points);
+-- PointExpiryService pages expired records on (expire_date, id)
+create index idx_point_record_expire_date on point_record (expire_date);
+-- findPageBefore, findPageBeforeByTypes, summarizeByMonth, summarizeByDay
+create index idx_point_transaction_member_date on point_transaction (member_id, transaction_date);
+-- findByEmail, findExistingEmails
+create index idx_member_email on member (email);
+-- findFirstByStatusOrderByIdDesc
+create index idx_point_expiry_run_status on point_expiry_run (status, id);
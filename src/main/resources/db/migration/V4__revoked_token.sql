@@ -0,0 +1,4 @@
+create table revoked_token (created_at datetime(6), expires_at datetime(6) not null, updated_at datetime(6), token_id varchar(36) not null, primary key (token_id)) engine=InnoDB;
+-- TokenRevocationService: startup load and purge by expiry, periodic resync by creation time
+create index idx_revoked_token_expires_at on revoked_token (expires_at);
+create index idx_revoked_token_created_at on revoked_token (created_at);
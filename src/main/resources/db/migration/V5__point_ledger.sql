@@ -0,0 +1,4 @@
+-- existing transactions are all reflected in point_balance already
+alter table point_transaction add column folded bit not null default 1;
+-- PointLedgerCompactor walks the unfolded rows member by member; balance reads sum one member's unfolded rows
+create index idx_point_transaction_folded_member on point_transaction (folded, member_id, id);
@@ -0,0 +1,3 @@
+create table point_earn_idempotency_key (created_at datetime(6), member_id bigint not null, updated_at datetime(6), idempotency_key varchar(100) not null, primary key (idempotency_key)) engine=InnoDB;
+-- retention purge by age
+create index idx_point_earn_idempotency_key_created_at on point_earn_idempotency_key (created_at);
@@ -0,0 +1,5 @@
+-- redemption walks a member's records by (received_date, id) in small windows; records without a
+-- received date would never be reached, so they take their creation time
+update point_record set received_date = coalesce(created_at, current_timestamp(6)) where received_date is null;
+-- findAvailablePointsAfter: id keeps the window order in the index, remaining points and expiry are filtered there
+create index idx_point_record_member_received on point_record (member_id, received_date, id, remaining_points, expire_date);
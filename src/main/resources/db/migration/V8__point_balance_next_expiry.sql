@@ -0,0 +1,5 @@
+-- earliest expiry among the member's records with points left; reads only correct available_points for
+-- expired but not yet processed records once it has passed
+alter table point_balance add column next_expiry_date datetime(6);
+update point_balance pb set next_expiry_date = (
+    select min(pr.expire_date) from point_record pr where pr.member_id = pb.member_id and pr.remaining_points > 0);
@@ -0,0 +1,2 @@
+-- PointExpiryService pages on (expire_date, id); runs checkpointed by id alone restart from the earliest expired record
+alter table point_expiry_run add column last_expire_date datetime(6);
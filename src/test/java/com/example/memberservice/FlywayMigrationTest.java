@@ -0,0 +1,35 @@
+package com.example.memberservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs every migration against an empty MariaDB and starts the application on the result, so Hibernate's
+ * {@code ddl-auto: validate} checks the entity mapping against the migrated schema. The other tests build
+ * their H2 schema from the entities and never run the MariaDB scripts. Skipped where Docker is unavailable.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariadb = new MariaDBContainer<>("mariadb:11.4");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migratesAnEmptyDatabaseToASchemaTheMappingValidates() {
+        assertThat(flyway.info().applied()).isNotEmpty();
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+}
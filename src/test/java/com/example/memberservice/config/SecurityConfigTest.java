@@ -0,0 +1,84 @@
+package com.example.memberservice.config;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.memberservice.utils.JwtUtils;
+
+/**
+ * Checks the authorization rules of the filter chain. MockMvc is built on the shared test context rather than
+ * through @AutoConfigureMockMvc, which would start a context of its own. The earn requests lack a member and
+ * the batches are empty, so a request that gets past the filter chain does not write anything.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecurityConfigTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void earningRequiresThePosRole() throws Exception {
+        mockMvc.perform(post("/api/points/earn").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/points/earn").contentType(MediaType.APPLICATION_JSON).content("{}")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(jwtUtils.createAccessToken("member@example.com"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/points/earn").contentType(MediaType.APPLICATION_JSON).content("{}")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(jwtUtils.createAccessToken("pos-terminal-1", "POS"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchEarningRequiresThePosRole() throws Exception {
+        mockMvc.perform(post("/api/points/earn/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/points/earn/batch").contentType(MediaType.APPLICATION_JSON).content("[]")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(jwtUtils.createAccessToken("member@example.com"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/points/earn/batch").contentType(MediaType.APPLICATION_JSON).content("[]")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(jwtUtils.createAccessToken("pos-terminal-1", "POS"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void onlyHealthAndInfoArePublicAmongTheActuatorEndpoints() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/info")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(jwtUtils.createAccessToken("member@example.com"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(jwtUtils.createAccessToken("ops@example.com", "ADMIN"))))
+                .andExpect(status().isOk());
+    }
+
+    private static String bearer(String token) {
+        return "Bearer " + token;
+    }
+
+}
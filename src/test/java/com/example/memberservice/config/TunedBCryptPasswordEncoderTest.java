@@ -0,0 +1,45 @@
+package com.example.memberservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+class TunedBCryptPasswordEncoderTest {
+
+    @Test
+    void configuredStrengthUpgradesAndDowngrades() {
+        TunedBCryptPasswordEncoder encoder = TunedBCryptPasswordEncoder.withStrength(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+    }
+
+    @Test
+    void calibratedStrengthOnlyUpgrades() {
+        TunedBCryptPasswordEncoder encoder = TunedBCryptPasswordEncoder.calibrated(1, 5, 5);
+
+        assertThat(encoder.getStrength()).isEqualTo(5);
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret"))).isFalse();
+    }
+
+    @Test
+    void legacyHashesWithoutPrefixMatchAndAreUpgraded() {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", TunedBCryptPasswordEncoder.withStrength(4)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertThat(encoder.matches("secret", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+
+        String rehashed = encoder.encode("secret");
+        assertThat(rehashed).startsWith("{bcrypt}");
+        assertThat(encoder.matches("secret", rehashed)).isTrue();
+        assertThat(encoder.upgradeEncoding(rehashed)).isFalse();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.memberservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.dto.MemberWithPointsDto;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.MemberLevel;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.entity.PointRecord;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MemberRepositoryTest {
+
+    private static final int MEMBER_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        MemberLevel bronze = new MemberLevel();
+        bronze.setLevel(MemberLevel.Level.BRONZE);
+        bronze.setMinPointsRequired(0);
+        entityManager.persist(bronze);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = new Member();
+            member.setFirstName("First" + i);
+            member.setLastName("Last" + i);
+            member.setEmail("member" + i + "@example.com");
+            member.setMemberLevel(bronze);
+            entityManager.persist(member);
+
+            PointBalance balance = new PointBalance();
+            balance.setMember(member);
+            balance.setTotalPoints(150);
+            balance.setUsedPoints(0);
+            balance.setExpiredPoints(0);
+            // the expiry run has not reached the expired record yet, so its 50 points are still materialized;
+            // odd members simulate balances created before availablePoints was materialized
+            balance.setAvailablePoints(i % 2 == 0 ? 150 : null);
+            balance.setNextExpiryDate(now.minusDays(1));
+            entityManager.persist(balance);
+
+            entityManager.persist(pointRecord(member, 100, now.plusDays(30)));
+            entityManager.persist(pointRecord(member, 50, now.minusDays(1)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllWithPointsUsesBoundedStatementsPerPage() {
+        Page<MemberWithPointsDto> page = memberRepository.findAllWithPoints(LocalDateTime.now(), PageRequest.of(0, 20, Sort.by("id")));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(MEMBER_COUNT);
+        // one projection query plus one count query, regardless of page size
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void findAllWithPointsExcludesExpiredRecordsWhetherMaterializedOrNot() {
+        Page<MemberWithPointsDto> page = memberRepository.findAllWithPoints(LocalDateTime.now(), PageRequest.of(0, 6));
+
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.getTotalPoints()).isEqualTo(150);
+            assertThat(dto.getAvailablePoints()).isEqualTo(100);
+            assertThat(dto.getMemberLevel()).isEqualTo("BRONZE");
+        });
+    }
+
+    @Test
+    void findWithPointsAfterSeeksWithoutCountQuery() {
+        List<MemberWithPointsDto> firstPage = memberRepository.findWithPointsAfter(0L, LocalDateTime.now(), Limit.of(10));
+        Long lastId = firstPage.get(firstPage.size() - 1).getMemberId();
+        List<MemberWithPointsDto> secondPage = memberRepository.findWithPointsAfter(lastId, LocalDateTime.now(), Limit.of(10));
+
+        assertThat(firstPage).hasSize(10);
+        assertThat(secondPage).hasSize(10);
+        assertThat(secondPage).allSatisfy(dto -> assertThat(dto.getMemberId()).isGreaterThan(lastId));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private PointRecord pointRecord(Member member, int points, LocalDateTime expireDate) {
+        PointRecord record = new PointRecord();
+        record.setMember(member);
+        record.setPoints(points);
+        record.setRemainingPoints(points);
+        record.setReceivedDate(LocalDateTime.now());
+        record.setExpireDate(expireDate);
+        return record;
+    }
+}
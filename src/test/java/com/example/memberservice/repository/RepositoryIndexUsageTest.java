@@ -0,0 +1,172 @@
+package com.example.memberservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.MemberLevel;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.entity.PointExpiryRun;
+import com.example.memberservice.entity.PointRecord;
+
+/**
+ * Runs the lookup queries of the repositories, captures the SQL Hibernate issues and fails when the H2
+ * plan of any of them reads a table without an index. The schema comes from the entities, whose @Table
+ * indexes mirror the db/migration scripts.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.memberservice.repository.RepositoryIndexUsageTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryIndexUsageTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PointRecordRepository pointRecordRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private PointExpiryRunRepository pointExpiryRunRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private PointEarnIdempotencyKeyRepository pointEarnIdempotencyKeyRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        MemberLevel bronze = new MemberLevel();
+        bronze.setLevel(MemberLevel.Level.BRONZE);
+        bronze.setMinPointsRequired(0);
+        entityManager.persist(bronze);
+
+        member = new Member();
+        member.setFirstName("Index");
+        member.setLastName("Test");
+        member.setEmail("index-test@example.com");
+        member.setMemberLevel(bronze);
+        entityManager.persist(member);
+
+        PointBalance balance = new PointBalance();
+        balance.setMember(member);
+        balance.setTotalPoints(0);
+        balance.setUsedPoints(0);
+        balance.setExpiredPoints(0);
+        balance.setAvailablePoints(0);
+        entityManager.persist(balance);
+
+        PointRecord record = new PointRecord();
+        record.setMember(member);
+        record.setPoints(10);
+        record.setRemainingPoints(10);
+        record.setReceivedDate(LocalDateTime.now());
+        record.setExpireDate(LocalDateTime.now().plusDays(30));
+        entityManager.persist(record);
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void lookupQueriesUseAnIndex() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        memberRepository.findByEmail("index-test@example.com");
+        memberRepository.findExistingEmails(Set.of("index-test@example.com"));
+        memberRepository.findExistingIds(Set.of(member.getId()));
+        memberRepository.findWithPointsAfter(0L, now, Limit.of(10));
+        memberRepository.findTiers(Set.of(member.getId()), now);
+        accountRepository.findByUsername("index-test@example.com");
+        pointRecordRepository.findAvailablePointsAfter(member, now, now.minusYears(1), 0L, Limit.of(8));
+        pointRecordRepository.sumExpiredRemainingPoints(member, now);
+        pointRecordRepository.sumRemainingPoints(member);
+        pointRecordRepository.sumAvailablePoints(member, now);
+        pointTransactionRepository.sumUnfolded(member.getId());
+        pointTransactionRepository.findPageBefore(member.getId(), now, Long.MAX_VALUE, Limit.of(10));
+        pointTransactionRepository.findPageBeforeByTypes(member.getId(), Set.of("EARN"), now, Long.MAX_VALUE, Limit.of(10));
+        pointTransactionRepository.summarizeByMonth(member.getId(), now.minusYears(1), now);
+        pointTransactionRepository.summarizeByDay(member.getId(), now.minusDays(30), now);
+        pointBalanceRepository.findByMember(member);
+        pointBalanceRepository.checkAvailablePointsAfter(0L, Limit.of(10));
+        pointExpiryRunRepository.findFirstByStatusOrderByIdDesc(PointExpiryRun.Status.RUNNING);
+        revokedTokenRepository.findByExpiresAtAfter(now);
+        revokedTokenRepository.findByCreatedAtGreaterThanEqual(now);
+        pointEarnIdempotencyKeyRepository.findExistingKeys(Set.of("index-test"));
+
+        List<String> statements = new ArrayList<>(CapturingStatementInspector.STATEMENTS);
+        assertThat(statements).hasSize(21);
+        List<String> tableScans = new ArrayList<>();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        for (String sql : statements) {
+            String plan = explain(connection, sql);
+            if (plan.contains("tableScan")) {
+                tableScans.add(sql + "\n  " + plan);
+            }
+        }
+        assertThat(tableScans).as("queries planned with a full table scan").isEmpty();
+    }
+
+    private static String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            // the plan does not depend on the values, only on which columns are compared
+            for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                statement.setNull(i, Types.NULL);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.dto.LoginRequest;
+import com.example.memberservice.dto.LoginResponse;
+import com.example.memberservice.dto.RefreshTokenRequest;
+import com.example.memberservice.dto.RegisterRequest;
+import com.example.memberservice.exception.InvalidCredentialsException;
+import com.example.memberservice.repository.RevokedTokenRepository;
+import com.example.memberservice.utils.JwtPrincipal;
+import com.example.memberservice.utils.JwtUtils;
+import com.example.memberservice.utils.TokenDenylist;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private TokenDenylist tokenDenylist;
+
+    @Test
+    void refreshUntilLogoutRevokesTheSession() {
+        testMembers.bronze();
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("Auth");
+        registerRequest.setLastName("Test");
+        registerRequest.setPhoneNumber("0812345678");
+        registerRequest.setEmail("auth-test@example.com");
+        registerRequest.setPassword("secret");
+        registerRequest.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        memberService.registerMember(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("auth-test@example.com");
+        loginRequest.setPassword("secret");
+        LoginResponse login = authService.login(loginRequest);
+
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest();
+        refreshTokenRequest.setRefreshToken(login.getRefreshToken());
+        LoginResponse refreshed = authService.refresh(refreshTokenRequest);
+        JwtPrincipal accessPrincipal = jwtUtils.resolvePrincipal(refreshed.getAccessToken());
+        assertThat(accessPrincipal.getType()).isEqualTo("ACCESS");
+        assertThat(accessPrincipal.getTokenId()).isNotNull();
+
+        RefreshTokenRequest accessAsRefresh = new RefreshTokenRequest();
+        accessAsRefresh.setRefreshToken(refreshed.getAccessToken());
+        assertThatThrownBy(() -> authService.refresh(accessAsRefresh)).isInstanceOf(InvalidCredentialsException.class);
+
+        authService.logout(refreshed.getAccessToken(), refreshTokenRequest);
+        assertThat(tokenDenylist.isRevoked(accessPrincipal.getTokenId())).isTrue();
+        assertThat(revokedTokenRepository.existsById(accessPrincipal.getTokenId())).isTrue();
+        assertThatThrownBy(() -> authService.refresh(refreshTokenRequest)).isInstanceOf(InvalidCredentialsException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.entity.Account;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.repository.AccountRepository;
+import com.example.memberservice.repository.MemberRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LastLoginRecorderTest {
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    void flushKeepsTheLatestLoginPerAccount() {
+        Member member = new Member();
+        member.setEmail("last-login@example.com");
+        member = memberRepository.save(member);
+        Account account = new Account();
+        account.setUsername("last-login@example.com");
+        account.setPassword("unused");
+        account.setMember(member);
+        account = accountRepository.save(account);
+
+        LocalDateTime first = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime latest = first.plusMinutes(5);
+        lastLoginRecorder.record(account.getId(), first);
+        lastLoginRecorder.record(account.getId(), latest);
+        lastLoginRecorder.record(account.getId(), first.plusMinutes(1));
+        lastLoginRecorder.flush();
+        assertThat(accountRepository.findById(account.getId()).orElseThrow().getLastLoginAt()).isEqualTo(latest);
+
+        // a buffered timestamp older than the stored one, e.g. from another instance, does not move it back
+        lastLoginRecorder.record(account.getId(), first);
+        lastLoginRecorder.flush();
+        assertThat(accountRepository.findById(account.getId()).orElseThrow().getLastLoginAt()).isEqualTo(latest);
+    }
+}
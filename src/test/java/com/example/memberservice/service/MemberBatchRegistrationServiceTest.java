@@ -0,0 +1,89 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.dto.BatchRegisterResponse;
+import com.example.memberservice.dto.BatchRegisterResult;
+import com.example.memberservice.dto.RegisterRequest;
+import com.example.memberservice.repository.AccountRepository;
+import com.example.memberservice.repository.MemberRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberBatchRegistrationServiceTest {
+
+    @Autowired
+    private MemberBatchRegistrationService memberBatchRegistrationService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MemberLevelCache memberLevelCache;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Test
+    void duplicatesFailTheirOwnRowsOnly() {
+        testMembers.member("batch-existing@example.com");
+        memberLevelCache.refresh();
+
+        BatchRegisterResponse response = memberBatchRegistrationService.registerMembers(List.of(
+                request("batch-new@example.com"),
+                request("batch-existing@example.com"),
+                request("batch-twice@example.com"),
+                request("Batch-Twice@example.com")));
+
+        assertThat(response.getTotal()).isEqualTo(4);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BatchRegisterResult::getError)
+                .containsExactly(null, "Email already exists", null, "Duplicate email in batch");
+        assertThat(accountRepository.findByUsername("batch-new@example.com")).isPresent();
+        assertThat(accountRepository.findByUsername("batch-twice@example.com")).isPresent();
+    }
+
+    @Test
+    void aRowFailingAtCommitFailsAlone() {
+        testMembers.bronze();
+        memberLevelCache.refresh();
+        // passes validation, but account.username holds at most 50 characters
+        String tooLong = "batch-" + "x".repeat(50) + "@example.com";
+
+        BatchRegisterResponse response = memberBatchRegistrationService.registerMembers(List.of(
+                request("batch-commit-1@example.com"),
+                request(tooLong),
+                request("batch-commit-2@example.com")));
+
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        BatchRegisterResult failed = response.getResults().get(1);
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(failed.getError()).isEqualTo("Registration failed");
+        assertThat(memberRepository.findByEmail(tooLong)).isEmpty();
+        assertThat(response.getResults().get(0).getMemberId()).isNotNull();
+        assertThat(accountRepository.findByUsername("batch-commit-1@example.com")).isPresent();
+        assertThat(accountRepository.findByUsername("batch-commit-2@example.com")).isPresent();
+    }
+
+    private static RegisterRequest request(String email) {
+        RegisterRequest request = new RegisterRequest();
+        request.setFirstName("Batch");
+        request.setLastName("Member");
+        request.setPhoneNumber("0812345678");
+        request.setEmail(email);
+        request.setPassword("secret");
+        request.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        return request;
+    }
+}
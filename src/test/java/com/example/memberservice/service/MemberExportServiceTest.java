@@ -0,0 +1,91 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.repository.MemberRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exports the shared test database, so the assertions pick out the rows of the test's own members.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberExportServiceTest {
+
+    @Autowired
+    private MemberExportService memberExportService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Test
+    void ndjsonWritesOneMemberPerLine() throws Exception {
+        Member member = testMembers.memberWithBalance("export-ndjson@example.com");
+        pointService.earnPoints(member, 25, "POS", "export", LocalDateTime.now().plusDays(30));
+
+        String[] lines = export(MemberExportService.Format.NDJSON).split("\n");
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : lines) {
+            rows.add(objectMapper.readTree(line));
+        }
+        assertThat(rows).hasSize((int) memberRepository.count());
+        assertThat(rows).filteredOn(row -> row.get("memberId").asLong() == member.getId()).singleElement().satisfies(row -> {
+            assertThat(row.get("email").asText()).isEqualTo("export-ndjson@example.com");
+            assertThat(row.get("totalPoints").asInt()).isEqualTo(25);
+            assertThat(row.get("availablePoints").asInt()).isEqualTo(25);
+            assertThat(row.get("memberLevel").asText()).isEqualTo("BRONZE");
+        });
+    }
+
+    @Test
+    void csvWritesAHeaderAndOneRowPerMember() {
+        Member member = testMembers.memberWithBalance("export-csv@example.com");
+        pointService.earnPoints(member, 40, "POS", "export", LocalDateTime.now().plusDays(30));
+
+        String csv = export(MemberExportService.Format.CSV);
+
+        assertThat(csv).startsWith("memberId,firstName,lastName,email,totalPoints,availablePoints,memberLevel\n");
+        assertThat(csv).contains("\n" + member.getId() + ",Test,Member,export-csv@example.com,40,40,BRONZE\n");
+    }
+
+    @Test
+    void csvQuotesSeparatorsQuotesAndLineBreaks() {
+        Member member = testMembers.member("export-quoting@example.com");
+        member.setFirstName("Smith, Jr.");
+        member.setLastName("O\"Brien\nSecond line");
+        memberRepository.save(member);
+
+        String csv = export(MemberExportService.Format.CSV);
+
+        assertThat(csv).contains("\n" + member.getId() + ",\"Smith, Jr.\",\"O\"\"Brien\nSecond line\",export-quoting@example.com,0,0,BRONZE\n");
+    }
+
+    private String export(MemberExportService.Format format) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        memberExportService.export(format, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.entity.MemberLevel;
+import com.example.memberservice.repository.MemberLevelRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberLevelCacheTest {
+
+    @Autowired
+    private MemberLevelCache memberLevelCache;
+
+    @Autowired
+    private MemberLevelRepository memberLevelRepository;
+
+    @Test
+    void levelEditsInvalidateTheCacheAfterCommit() {
+        memberLevelCache.refresh();
+        assertThat(memberLevelCache.findByLevel(MemberLevel.Level.GOLD)).isEmpty();
+
+        MemberLevel gold = new MemberLevel();
+        gold.setLevel(MemberLevel.Level.GOLD);
+        gold.setDescription("Gold");
+        gold.setMinPointsRequired(5000);
+        gold = memberLevelRepository.save(gold);
+        try {
+            assertThat(memberLevelCache.findByLevel(MemberLevel.Level.GOLD))
+                    .hasValueSatisfying(level -> assertThat(level.getMinPointsRequired()).isEqualTo(5000));
+            assertThat(memberLevelCache.findById(gold.getId())).isPresent();
+
+            gold.setMinPointsRequired(6000);
+            memberLevelRepository.save(gold);
+            assertThat(memberLevelCache.findByLevel(MemberLevel.Level.GOLD))
+                    .hasValueSatisfying(level -> assertThat(level.getMinPointsRequired()).isEqualTo(6000));
+        } finally {
+            memberLevelRepository.delete(gold);
+        }
+        assertThat(memberLevelCache.findByLevel(MemberLevel.Level.GOLD)).isEmpty();
+    }
+}
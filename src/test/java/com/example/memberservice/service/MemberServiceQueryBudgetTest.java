@@ -0,0 +1,112 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.config.QueryBudgetTracker;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.exception.QueryBudgetExceededException;
+import com.example.memberservice.repository.MemberRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs the MemberService reads behind the member endpoints inside their endpoint's statement budget; the test
+ * profile fails any statement over it. The listings must also not grow with the page size.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberServiceQueryBudgetTest {
+
+    private static final int MEMBERS = 13;
+
+    @Autowired
+    private QueryBudgetTracker queryBudgetTracker;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MemberLevelCache memberLevelCache;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Test
+    void memberReadsStayWithinTheirEndpointBudgets() {
+        List<Member> members = members("query-budget", MEMBERS);
+        // the test creates BRONZE after startup; a warm level cache is the steady state being budgeted
+        memberLevelCache.refresh();
+
+        int smallPage = statements("MemberController.getAllMembersWithPoints", () -> memberService.getAllMembersWithPoints(PageRequest.of(0, 3)));
+        int fullPage = statements("MemberController.getAllMembersWithPoints", () -> memberService.getAllMembersWithPoints(PageRequest.of(0, MEMBERS)));
+        assertThat(fullPage).isEqualTo(smallPage);
+
+        int smallScroll = statements("MemberController.scrollMembersWithPoints", () -> memberService.getMembersWithPointsAfter(null, 3));
+        int fullScroll = statements("MemberController.scrollMembersWithPoints", () -> memberService.getMembersWithPointsAfter(null, MEMBERS));
+        assertThat(fullScroll).isEqualTo(smallScroll);
+
+        statements("MemberController.getMemberWithPoints", () -> memberService.getMemberWithPoints(members.get(0).getId()));
+        assertThat(meterRegistry.get("db.request.statements").tag("endpoint", "MemberController.getMemberWithPoints").summary().count())
+                .isPositive();
+    }
+
+    @Test
+    void statementsOverTheBudgetFail() {
+        Member member = members("query-budget-exceeded", 1).get(0);
+
+        queryBudgetTracker.begin("MemberServiceQueryBudgetTest.unbudgeted");
+        try {
+            // one lookup per row is the N+1 shape; the default budget is 25 statements
+            assertThatThrownBy(() -> {
+                for (int i = 0; i < 26; i++) {
+                    memberRepository.findById(member.getId());
+                }
+            }).isInstanceOf(QueryBudgetExceededException.class).hasMessageContaining("budget of 25");
+        } finally {
+            queryBudgetTracker.end();
+        }
+        assertThat(meterRegistry.get("db.query.budget.exceeded").tag("endpoint", "MemberServiceQueryBudgetTest.unbudgeted").counter().count())
+                .isEqualTo(1);
+    }
+
+    private int statements(String endpoint, Runnable work) {
+        queryBudgetTracker.begin(endpoint);
+        try {
+            work.run();
+        } catch (RuntimeException e) {
+            queryBudgetTracker.end();
+            throw e;
+        }
+        return queryBudgetTracker.end().statements();
+    }
+
+    private List<Member> members(String prefix, int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Member member = testMembers.memberWithBalance(prefix + "-" + i + "@example.com");
+            pointService.earnPoints(member, 10 * (i + 1), "TEST", "query budget", LocalDateTime.now().plusDays(30));
+            members.add(member);
+        }
+        return members;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.memberservice.dto.MemberWithPointsDto;
+import com.example.memberservice.dto.RegisterRequest;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.exception.InsufficientPointBalanceException;
+import com.example.memberservice.repository.AccountRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+
+    @Autowired
+    private MemberLevelCache memberLevelCache;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @MockitoSpyBean
+    private PasswordHashingService passwordHashingService;
+
+    @Test
+    void registrationHashesBeforeTheTransactionOpens() {
+        testMembers.bronze();
+        memberLevelCache.refresh();
+        AtomicBoolean hashedInTransaction = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            hashedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHashingService).encode(any());
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("Register");
+        registerRequest.setLastName("Test");
+        registerRequest.setPhoneNumber("0812345679");
+        registerRequest.setEmail("register-test@example.com");
+        registerRequest.setPassword("secret");
+        registerRequest.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        MemberWithPointsDto registered = memberService.registerMember(registerRequest);
+
+        assertThat(hashedInTransaction).isFalse();
+        assertThat(registered.getAvailablePoints()).isZero();
+        assertThat(accountRepository.findByUsername("register-test@example.com")).isPresent();
+    }
+
+    @Test
+    void expiredPointsAreNotAvailableBeforeTheExpiryRun() {
+        Member member = testMembers.memberWithBalance("expired-unprocessed@example.com");
+        memberLevelCache.refresh();
+        pointService.earnPoints(member, 100, "POS", "kept", LocalDateTime.now().plusDays(30));
+        // lapsed since the last expiry run: the balance snapshot still counts its 50 points
+        pointService.earnPoints(member, 50, "POS", "lapsed", LocalDateTime.now().minusDays(1));
+
+        MemberWithPointsDto summary = memberService.getMemberWithPoints(member.getId());
+
+        assertThat(summary.getTotalPoints()).isEqualTo(150);
+        assertThat(summary.getAvailablePoints()).isEqualTo(100);
+        assertThat(memberService.getMembersWithPointsAfter(null, 1000).getContent())
+                .filteredOn(row -> row.getMemberId().equals(member.getId()))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getAvailablePoints()).isEqualTo(100));
+        assertThatThrownBy(() -> pointService.redeemPoints(member, 101, "too much")).isInstanceOf(InsufficientPointBalanceException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.dto.MemberWithPointsDto;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.exception.MemberNotFoundException;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberSummaryCacheTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Test
+    void summariesAreCachedUntilAWriteCommits() {
+        Member member = testMembers.memberWithBalance("summary-cache@example.com");
+        double hitsBefore = hits();
+
+        MemberWithPointsDto first = memberService.getMemberWithPoints(member.getId());
+        assertThat(memberService.getMemberWithPoints(member.getId())).isSameAs(first);
+        assertThat(hits()).isEqualTo(hitsBefore + 1);
+
+        pointService.earnPoints(member, 250, "TEST", "cache", LocalDateTime.now().plusDays(30));
+        assertThat(memberService.getMemberWithPoints(member.getId()).getAvailablePoints()).isEqualTo(250);
+
+        pointService.redeemPoints(member, 100, "cache");
+        assertThat(memberService.getMemberWithPoints(member.getId()).getAvailablePoints()).isEqualTo(150);
+    }
+
+    @Test
+    void deletedMembersAreNotServedFromTheCache() {
+        Member member = testMembers.memberWithBalance("summary-delete@example.com");
+        memberService.getMemberWithPoints(member.getId());
+
+        pointBalanceRepository.deleteAll(pointBalanceRepository.findByMember(member).stream().toList());
+        memberService.deleteMember(member.getId());
+
+        assertThatThrownBy(() -> memberService.getMemberWithPoints(member.getId())).isInstanceOf(MemberNotFoundException.class);
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "member.summary").tag("result", "hit").functionCounter().count();
+    }
+}
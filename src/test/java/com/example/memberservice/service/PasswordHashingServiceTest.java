@@ -0,0 +1,113 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.memberservice.dto.ApiResponse;
+import com.example.memberservice.exception.GlobalExceptionHandler;
+import com.example.memberservice.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceTest {
+
+    @Test
+    void aFullQueueIsRejectedWith429() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEncoder encoder = new BlockingEncoder(release);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingService service = new PasswordHashingService(encoder, meterRegistry, 1, 1);
+        try {
+            // one thread busy, one task queued
+            CompletableFuture<String> running = service.encodeAsync("running");
+            assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = service.encodeAsync("queued");
+
+            TooManyRequestsException rejected = catchTooManyRequests(() -> service.encode("rejected"));
+            assertThatThrownBy(() -> service.matches("rejected", "{noop}rejected")).isInstanceOf(TooManyRequestsException.class);
+            assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("auth.password.hash.queue").gauge().value()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.password.hash.active").gauge().value()).isEqualTo(1);
+
+            ResponseEntity<ApiResponse<?>> response = new GlobalExceptionHandler().handleTooManyRequestsException(rejected);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{noop}running");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("{noop}queued");
+            assertThat(service.encode("after")).isEqualTo("{noop}after");
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void hashingIsTimedPerOperation() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingService service = new PasswordHashingService(new BlockingEncoder(new CountDownLatch(0)), meterRegistry, 2, 4);
+        try {
+            String encoded = service.encode("secret");
+            assertThat(service.matches("secret", encoded)).isTrue();
+            assertThat(service.encodeAll(List.of("a", "b", "c"))).containsExactly("{noop}a", "{noop}b", "{noop}c");
+
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(4);
+            assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isZero();
+            assertThat(meterRegistry.find("auth.password.hash.queue").gauge()).isNotNull();
+            assertThat(meterRegistry.find("auth.password.hash.active").gauge()).isNotNull();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static TooManyRequestsException catchTooManyRequests(Runnable work) {
+        try {
+            work.run();
+        } catch (TooManyRequestsException e) {
+            return e;
+        }
+        throw new AssertionError("Expected TooManyRequestsException");
+    }
+
+    /**
+     * Prefixes "{noop}" once the latch is released, holding the hashing thread until then.
+     */
+    private static class BlockingEncoder implements PasswordEncoder {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{noop}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.dto.BatchEarnResponse;
+import com.example.memberservice.dto.BatchEarnResult;
+import com.example.memberservice.dto.EarnPointsRequest;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+@SpringBootTest(properties = "member.points.batch-earn.chunk-size=3")
+@ActiveProfiles("test")
+class PointBatchEarnServiceTest {
+
+    @Autowired
+    private PointBatchEarnService pointBatchEarnService;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private PointEarnBatchWriter pointEarnBatchWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Test
+    void reUploadingAFileAppliesEveryRowOnce() {
+        Member first = testMembers.memberWithBalance("batch-earn-1@example.com");
+        Member second = testMembers.memberWithBalance("batch-earn-2@example.com");
+        LocalDateTime expireAt = LocalDateTime.now().plusDays(30);
+        List<EarnPointsRequest> upload = List.of(
+                earn(first.getId(), 100, expireAt, "pos-1"),
+                earn(first.getId(), 50, expireAt, "pos-2"),
+                earn(second.getId(), 30, expireAt, "pos-3"),
+                earn(first.getId(), 100, expireAt, "pos-1"),
+                earn(Long.MAX_VALUE, 10, expireAt, "pos-4"),
+                earn(second.getId(), 0, expireAt, "pos-5"));
+
+        BatchEarnResponse response = pointBatchEarnService.earnAll(upload);
+
+        assertThat(response.getResults()).extracting(BatchEarnResult::getStatus).containsExactly(
+                BatchEarnResult.Status.APPLIED, BatchEarnResult.Status.APPLIED, BatchEarnResult.Status.APPLIED,
+                BatchEarnResult.Status.DUPLICATE, BatchEarnResult.Status.FAILED, BatchEarnResult.Status.FAILED);
+        assertThat(response.getApplied()).isEqualTo(3);
+        assertThat(balanceOf(first).getTotalPoints()).isEqualTo(150);
+        assertThat(balanceOf(first).getAvailablePoints()).isEqualTo(150);
+        assertThat(balanceOf(second).getAvailablePoints()).isEqualTo(30);
+
+        BatchEarnResponse reUpload = pointBatchEarnService.earnAll(upload);
+
+        assertThat(reUpload.getApplied()).isZero();
+        assertThat(reUpload.getDuplicates()).isEqualTo(4);
+        assertThat(balanceOf(first).getAvailablePoints()).isEqualTo(150);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_record WHERE member_id = ?", Integer.class, first.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void aRowFailingAtCommitFailsAlone() {
+        Member member = testMembers.memberWithBalance("batch-earn-row@example.com");
+        LocalDateTime expireAt = LocalDateTime.now().plusDays(30);
+        EarnPointsRequest tooLong = earn(member.getId(), 20, expireAt, "row-2");
+        // passes validation, but the transaction description holds at most 255 characters
+        tooLong.setDescription("x".repeat(300));
+
+        BatchEarnResponse response = pointBatchEarnService.earnAll(List.of(
+                earn(member.getId(), 10, expireAt, "row-1"), tooLong, earn(member.getId(), 30, expireAt, "row-3")));
+
+        assertThat(response.getResults()).extracting(BatchEarnResult::getStatus).containsExactly(
+                BatchEarnResult.Status.APPLIED, BatchEarnResult.Status.FAILED, BatchEarnResult.Status.APPLIED);
+        assertThat(response.getResults().get(1).getError()).isEqualTo("Batch earn failed");
+        assertThat(balanceOf(member).getAvailablePoints()).isEqualTo(40);
+
+        // the failed row's key was rolled back with it, so fixing the row and re-uploading applies it
+        tooLong.setDescription("fixed");
+        BatchEarnResponse reUpload = pointBatchEarnService.earnAll(List.of(tooLong));
+        assertThat(reUpload.getApplied()).isEqualTo(1);
+        assertThat(balanceOf(member).getAvailablePoints()).isEqualTo(60);
+    }
+
+    @Test
+    void aKeyCommittedByAConcurrentUploadIsReportedAsDuplicate() throws Exception {
+        Member member = testMembers.memberWithBalance("batch-earn-race@example.com");
+        LocalDateTime expireAt = LocalDateTime.now().plusDays(30);
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        // the other upload has inserted "race-1" but not committed when this one checks its keys
+        CompletableFuture<Void> otherUpload = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update("INSERT INTO point_earn_idempotency_key (idempotency_key, member_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                    "race-1", member.getId(), now, now);
+            pointEarnBatchWriter.write(List.of(new PointEarnBatchWriter.Earn(member.getId(), 100, "POS", "POS", expireAt)));
+            inserted.countDown();
+            awaitQuietly(commit);
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<BatchEarnResponse> upload = CompletableFuture.supplyAsync(() -> pointBatchEarnService.earnAll(List.of(
+                earn(member.getId(), 100, expireAt, "race-1"), earn(member.getId(), 50, expireAt, "race-2"))));
+        awaitBlockedSession();
+        commit.countDown();
+        otherUpload.get(10, TimeUnit.SECONDS);
+        BatchEarnResponse response = upload.get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getResults()).extracting(BatchEarnResult::getStatus).containsExactly(
+                BatchEarnResult.Status.DUPLICATE, BatchEarnResult.Status.APPLIED);
+        assertThat(balanceOf(member).getAvailablePoints()).isEqualTo(150);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_record WHERE member_id = ?", Integer.class, member.getId())).isEqualTo(2);
+    }
+
+    // the upload's key insert waits on the uncommitted "race-1" row; H2 reports no blocker_id for unique index waits
+    private void awaitBlockedSession() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.sessions "
+                + "WHERE executing_statement LIKE 'INSERT INTO point_earn_idempotency_key%'", Integer.class) == 0) {
+            assertThat(System.nanoTime()).as("a session blocked on the uncommitted key").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private PointBalance balanceOf(Member member) {
+        return pointBalanceRepository.findByMember(member).orElseThrow();
+    }
+
+    private static EarnPointsRequest earn(Long memberId, int points, LocalDateTime expireAt, String idempotencyKey) {
+        EarnPointsRequest request = new EarnPointsRequest();
+        request.setMemberId(memberId);
+        request.setPoints(points);
+        request.setSource("POS");
+        request.setExpireAt(expireAt);
+        request.setIdempotencyKey(idempotencyKey);
+        return request;
+    }
+}
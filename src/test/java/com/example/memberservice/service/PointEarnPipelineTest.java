@@ -0,0 +1,112 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.exception.MemberNotFoundException;
+import com.example.memberservice.exception.ServiceBusyException;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "member.points.earn-pipeline.enabled=true",
+        "member.points.earn-pipeline.partitions=2",
+        "member.points.earn-pipeline.batch-size=50",
+        "member.points.earn-pipeline.flush-interval-millis=20",
+        "member.points.bulkhead.permits=2",
+        "member.points.bulkhead.acquire-timeout-millis=200"
+})
+@ActiveProfiles("test")
+class PointEarnPipelineTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PointTransactionBulkhead bulkhead;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Test
+    void concurrentEarnsAreGroupCommitted() {
+        List<Member> members = List.of(testMembers.memberWithBalance("pipeline-1@example.com"), testMembers.memberWithBalance("pipeline-2@example.com"), testMembers.memberWithBalance("pipeline-3@example.com"));
+        LocalDateTime expireAt = LocalDateTime.now().plusDays(30);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Member member = members.get(i % members.size());
+            futures.add(CompletableFuture.supplyAsync(() -> pointService.earnPointsAsync(member.getId(), 10, "POS", "pipeline", expireAt))
+                    .thenCompose(earned -> earned));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).orTimeout(30, TimeUnit.SECONDS).join();
+
+        for (Member member : members) {
+            PointBalance balance = pointBalanceRepository.findByMember(member).orElseThrow();
+            assertThat(balance.getTotalPoints()).isEqualTo(1000);
+            assertThat(balance.getAvailablePoints()).isEqualTo(1000);
+        }
+        // 300 earns over far fewer transactions
+        assertThat(meterRegistry.get("points.earn.pipeline.flush").timer().count()).isLessThan(300);
+    }
+
+    @Test
+    void flushesWaitForABulkheadPermit() throws Exception {
+        Member member = testMembers.memberWithBalance("pipeline-busy@example.com");
+        CountDownLatch held = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService holders = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 2; i++) {
+            holders.submit(() -> bulkhead.run(() -> {
+                held.countDown();
+                awaitQuietly(release);
+            }));
+        }
+        try {
+            held.await(10, TimeUnit.SECONDS);
+            CompletableFuture<Void> earn = pointService.earnPointsAsync(member.getId(), 10, "POS", "pipeline", LocalDateTime.now().plusDays(1));
+            assertThatThrownBy(() -> earn.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(ServiceBusyException.class);
+        } finally {
+            release.countDown();
+            holders.shutdown();
+        }
+        assertThat(pointBalanceRepository.findByMember(member).orElseThrow().getTotalPoints()).isZero();
+    }
+
+    @Test
+    void unknownMembersAreRejectedBeforeQueueing() {
+        assertThatThrownBy(() -> pointService.earnPointsAsync(Long.MAX_VALUE, 10, "POS", "pipeline", LocalDateTime.now().plusDays(1)))
+                .isInstanceOf(MemberNotFoundException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.entity.PointExpiryRun;
+import com.example.memberservice.repository.PointBalanceRepository;
+import com.example.memberservice.repository.PointExpiryRunRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs PointExpiryService with chunks of two records against the shared test database. Each test first
+ * drains whatever expired records other tests left behind, so the run totals are the test's own.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PointExpiryServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PointExpiryRunRepository pointExpiryRunRepository;
+
+    @Autowired
+    private TierEvaluationService tierEvaluationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    private PointExpiryService pointExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        // a small chunk size without a context of its own
+        pointExpiryService = new PointExpiryService(jdbcTemplate, namedParameterJdbcTemplate, transactionTemplate, pointExpiryRunRepository, pointBalanceRepository, tierEvaluationService, eventPublisher,
+                new SimpleMeterRegistry(), CHUNK_SIZE, false);
+        pointExpiryService.expireAll();
+    }
+
+    @Test
+    void expiresAcrossChunksAndRollsUpBalances() {
+        Member first = testMembers.memberWithBalance("expiry-chunks-1@example.com");
+        Member second = testMembers.memberWithBalance("expiry-chunks-2@example.com");
+        earnExpired(first, 10, 20, 30);
+        earnExpired(second, 40, 50);
+        LocalDateTime keptUntil = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.MICROS);
+        pointService.earnPoints(first, 7, "POS", "kept", keptUntil);
+
+        PointExpiryRun run = pointExpiryService.expireAll();
+
+        assertThat(run.getStatus()).isEqualTo(PointExpiryRun.Status.COMPLETED);
+        assertThat(run.getFinishedAt()).isNotNull();
+        assertThat(run.getRecordsExpired()).isEqualTo(5);
+        assertThat(run.getPointsExpired()).isEqualTo(150);
+        assertBalance(first, 67, 60, 7);
+        assertBalance(second, 90, 90, 0);
+        assertThat(expiredTransactionPoints(first)).isEqualTo(-60);
+        assertThat(expiredTransactionPoints(second)).isEqualTo(-90);
+        assertThat(remainingPoints(first)).isEqualTo(7);
+        assertThat(remainingPoints(second)).isZero();
+        assertThat(pointBalanceRepository.findByMember(first).orElseThrow().getNextExpiryDate()).isEqualTo(keptUntil);
+        assertThat(pointBalanceRepository.findByMember(second).orElseThrow().getNextExpiryDate()).isNull();
+
+        // nothing is left for the next run
+        assertThat(pointExpiryService.expireAll().getRecordsExpired()).isZero();
+    }
+
+    @Test
+    void resumesAfterTheCheckpointOfARunningRun() {
+        Member member = testMembers.memberWithBalance("expiry-resume@example.com");
+        List<Long> recordIds = earnExpired(member, 10, 20, 30);
+
+        // a run that stopped after its first chunk: the first record is past the checkpoint and already written off
+        jdbcTemplate.update("UPDATE point_record SET remaining_points = 0 WHERE id = ?", recordIds.get(0));
+        jdbcTemplate.update("UPDATE point_balance SET available_points = available_points - 10, expired_points = 10 WHERE member_id = ?", member.getId());
+        PointExpiryRun interrupted = new PointExpiryRun();
+        interrupted.setCutoff(LocalDateTime.now());
+        interrupted.setLastExpireDate(expireDate(recordIds.get(0)));
+        interrupted.setLastRecordId(recordIds.get(0));
+        interrupted.setRecordsExpired(1L);
+        interrupted.setPointsExpired(10L);
+        interrupted.setStatus(PointExpiryRun.Status.RUNNING);
+        interrupted.setStartedAt(LocalDateTime.now());
+        interrupted = pointExpiryRunRepository.save(interrupted);
+
+        PointExpiryRun run = pointExpiryService.expireAll();
+
+        assertThat(run.getId()).isEqualTo(interrupted.getId());
+        assertThat(run.getStatus()).isEqualTo(PointExpiryRun.Status.COMPLETED);
+        assertThat(run.getLastExpireDate()).isEqualTo(expireDate(recordIds.get(2)));
+        assertThat(run.getLastRecordId()).isEqualTo(recordIds.get(2));
+        assertThat(run.getRecordsExpired()).isEqualTo(3);
+        assertThat(run.getPointsExpired()).isEqualTo(60);
+        assertThat(pointExpiryRunRepository.findFirstByStatusOrderByIdDesc(PointExpiryRun.Status.RUNNING)).isEmpty();
+        assertBalance(member, 60, 60, 0);
+        assertThat(expiredTransactionPoints(member)).isEqualTo(-50);
+    }
+
+    /**
+     * Earns each amount as its own record that expired yesterday.
+     *
+     * @return the record ids in insertion order
+     */
+    private List<Long> earnExpired(Member member, int... points) {
+        for (int amount : points) {
+            pointService.earnPoints(member, amount, "POS", "expiring", LocalDateTime.now().minusDays(1));
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM point_record WHERE member_id = ? ORDER BY id", Long.class, member.getId());
+    }
+
+    private void assertBalance(Member member, int total, int expired, int available) {
+        PointBalance balance = pointBalanceRepository.findByMember(member).orElseThrow();
+        assertThat(balance.getTotalPoints()).isEqualTo(total);
+        assertThat(balance.getExpiredPoints()).isEqualTo(expired);
+        assertThat(balance.getAvailablePoints()).isEqualTo(available);
+    }
+
+    private int expiredTransactionPoints(Member member) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(points), 0) FROM point_transaction WHERE member_id = ? AND type = 'EXPIRE'",
+                Integer.class, member.getId());
+    }
+
+    private LocalDateTime expireDate(Long recordId) {
+        return jdbcTemplate.queryForObject("SELECT expire_date FROM point_record WHERE id = ?", LocalDateTime.class, recordId);
+    }
+
+    private int remainingPoints(Member member) {
+        return jdbcTemplate.queryForObject("SELECT SUM(remaining_points) FROM point_record WHERE member_id = ?", Integer.class, member.getId());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.dto.CursorPage;
+import com.example.memberservice.dto.PointTransactionDto;
+import com.example.memberservice.dto.PointTransactionSummaryDto;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointTransaction;
+import com.example.memberservice.exception.InvalidPeriodException;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ PointHistoryService.class, TestMembers.class })
+class PointHistoryServiceTest {
+
+    private static final LocalDateTime MARCH = LocalDateTime.of(2025, 3, 10, 12, 0);
+    private static final LocalDateTime APRIL = LocalDateTime.of(2025, 4, 2, 9, 30);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PointHistoryService pointHistoryService;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = testMembers.member("history-test@example.com");
+
+        transaction("EARN", 100, MARCH);
+        transaction("EARN", 50, MARCH);
+        transaction("REDEEM", -30, MARCH.plusDays(1));
+        transaction("EARN", 200, APRIL);
+        transaction("REDEEM", -80, APRIL);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesWalkEveryTransactionNewestFirstAcrossEqualTimestamps() {
+        List<PointTransactionDto> seen = new ArrayList<>();
+        String cursor = null;
+        CursorPage<PointTransactionDto> page;
+        do {
+            page = pointHistoryService.getTransactions(member.getId(), cursor, 2, null);
+            seen.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        assertThat(seen).hasSize(5);
+        assertThat(seen).extracting(PointTransactionDto::getTransactionDate)
+                .containsExactly(APRIL, APRIL, MARCH.plusDays(1), MARCH, MARCH);
+        assertThat(seen).extracting(PointTransactionDto::getTransactionId).doesNotHaveDuplicates();
+        assertThat(seen.get(0).getTransactionId()).isGreaterThan(seen.get(1).getTransactionId());
+    }
+
+    @Test
+    void filtersByTypeCaseInsensitively() {
+        CursorPage<PointTransactionDto> page = pointHistoryService.getTransactions(member.getId(), null, 20, List.of("redeem"));
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getContent()).extracting(PointTransactionDto::getPoints).containsExactly(-80, -30);
+    }
+
+    @Test
+    void summarizesPerMonthAndType() {
+        List<PointTransactionSummaryDto> summary = pointHistoryService.getSummary(member.getId(),
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), PointHistoryService.SummaryPeriod.MONTH);
+
+        assertThat(summary).extracting(PointTransactionSummaryDto::getMonth, PointTransactionSummaryDto::getType,
+                PointTransactionSummaryDto::getPoints, PointTransactionSummaryDto::getTransactionCount)
+                .containsExactly(
+                        tuple(3, "EARN", 150L, 2L),
+                        tuple(3, "REDEEM", -30L, 1L),
+                        tuple(4, "EARN", 200L, 1L),
+                        tuple(4, "REDEEM", -80L, 1L));
+    }
+
+    @Test
+    void dailySummaryIsCappedToAYear() {
+        assertThat(pointHistoryService.getSummary(member.getId(),
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), PointHistoryService.SummaryPeriod.DAY)).hasSize(4);
+        assertThatThrownBy(() -> pointHistoryService.getSummary(member.getId(),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31), PointHistoryService.SummaryPeriod.DAY))
+                .isInstanceOf(InvalidPeriodException.class);
+    }
+
+    private void transaction(String type, int points, LocalDateTime date) {
+        PointTransaction transaction = new PointTransaction();
+        transaction.setMember(member);
+        transaction.setType(type);
+        transaction.setPoints(points);
+        transaction.setDescription(type.toLowerCase());
+        transaction.setTransactionDate(date);
+        entityManager.persist(transaction);
+    }
+}
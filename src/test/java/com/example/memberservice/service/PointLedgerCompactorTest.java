@@ -0,0 +1,88 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.dto.MemberWithPointsDto;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+@SpringBootTest(properties = "member.points.ledger.enabled=true")
+@ActiveProfiles("test")
+class PointLedgerCompactorTest {
+
+    @Autowired
+    private PointLedgerCompactor pointLedgerCompactor;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Test
+    void ledgerWritesLeaveTheSnapshotAloneUntilCompacted() {
+        Member member = testMembers.memberWithBalance("ledger-test@example.com");
+
+        pointService.earnPoints(member, 500, "TEST", "ledger", LocalDateTime.now().plusDays(30));
+        pointService.earnPoints(member, 300, "TEST", "ledger", LocalDateTime.now().plusDays(30));
+        pointService.redeemPoints(member, 200, "ledger");
+
+        PointBalance snapshot = pointBalanceRepository.findByMember(member).orElseThrow();
+        assertThat(snapshot.getTotalPoints()).isZero();
+        assertThat(snapshot.getAvailablePoints()).isZero();
+        MemberWithPointsDto beforeCompaction = memberService.getMemberWithPoints(member.getId());
+        assertThat(beforeCompaction.getTotalPoints()).isEqualTo(600);
+        assertThat(beforeCompaction.getAvailablePoints()).isEqualTo(600);
+
+        assertThat(pointLedgerCompactor.compact()).isEqualTo(3);
+
+        snapshot = pointBalanceRepository.findByMember(member).orElseThrow();
+        assertThat(snapshot.getTotalPoints()).isEqualTo(600);
+        assertThat(snapshot.getUsedPoints()).isEqualTo(200);
+        assertThat(snapshot.getAvailablePoints()).isEqualTo(600);
+        assertThat(unfolded(member)).isZero();
+        MemberWithPointsDto afterCompaction = memberService.getMemberWithPoints(member.getId());
+        assertThat(afterCompaction.getTotalPoints()).isEqualTo(600);
+        assertThat(afterCompaction.getAvailablePoints()).isEqualTo(600);
+        assertThat(memberService.getMembersWithPointsAfter(null, 100).getContent())
+                .filteredOn(row -> row.getMemberId().equals(member.getId()))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getAvailablePoints()).isEqualTo(600));
+    }
+
+    @Test
+    void compactionCreatesMissingSnapshots() {
+        Member member = testMembers.member("ledger-new@example.com");
+
+        pointService.earnPoints(member, 150, "TEST", "ledger", LocalDateTime.now().plusDays(30));
+        assertThat(pointBalanceRepository.findByMember(member)).isEmpty();
+
+        pointLedgerCompactor.compact();
+
+        PointBalance snapshot = pointBalanceRepository.findByMember(member).orElseThrow();
+        assertThat(snapshot.getTotalPoints()).isEqualTo(150);
+        assertThat(snapshot.getAvailablePoints()).isEqualTo(150);
+    }
+
+    private int unfolded(Member member) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_transaction WHERE folded = FALSE AND member_id = ?", Integer.class, member.getId());
+    }
+}
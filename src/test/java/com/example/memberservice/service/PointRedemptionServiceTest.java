@@ -0,0 +1,113 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.exception.InsufficientPointBalanceException;
+import com.example.memberservice.exception.PointRedemptionConflictException;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+@SpringBootTest(properties = {
+        "member.points.redemption.local-lock.enabled=false",
+        "member.points.redemption.max-attempts=100",
+        "member.points.redemption.max-backoff-millis=20"
+})
+@ActiveProfiles("test")
+class PointRedemptionServiceTest {
+
+    private static final int RECORDS = 50;
+    private static final int POINTS_PER_RECORD = 20;
+    private static final int THREADS = 8;
+    private static final int REDEMPTIONS_PER_THREAD = 25;
+    private static final int POINTS_PER_REDEMPTION = 7;
+
+    @Autowired
+    private PointRedemptionService pointRedemptionService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentRedemptionsNeverDoubleSpendOrLoseUpdates() throws Exception {
+        Member member = createMemberWithPoints();
+
+        AtomicInteger redeemed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REDEMPTIONS_PER_THREAD; i++) {
+                    try {
+                        pointRedemptionService.redeemPoints(member, POINTS_PER_REDEMPTION, "stress");
+                        redeemed.addAndGet(POINTS_PER_REDEMPTION);
+                    } catch (InsufficientPointBalanceException | PointRedemptionConflictException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        int granted = RECORDS * POINTS_PER_RECORD;
+        // more points are requested than granted, so some redemptions must have been refused
+        assertThat(rejected.get()).isPositive();
+        assertThat(redeemed.get()).isLessThanOrEqualTo(granted);
+
+        PointBalance balance = pointBalanceRepository.findByMember(member).orElseThrow();
+        assertThat(balance.getUsedPoints()).isEqualTo(redeemed.get());
+        assertThat(balance.getTotalPoints()).isEqualTo(granted - redeemed.get());
+        assertThat(balance.getAvailablePoints()).isEqualTo(granted - redeemed.get());
+
+        Integer remainingSum = jdbcTemplate.queryForObject(
+                "SELECT SUM(remaining_points) FROM point_record WHERE member_id = ?", Integer.class, member.getId());
+        Integer negativeRecords = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_record WHERE member_id = ? AND remaining_points < 0", Integer.class, member.getId());
+        Integer redeemTransactions = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(points), 0) FROM point_transaction WHERE member_id = ? AND type = 'REDEEM'", Integer.class, member.getId());
+        assertThat(remainingSum).isEqualTo(granted - redeemed.get());
+        assertThat(negativeRecords).isZero();
+        assertThat(redeemTransactions).isEqualTo(-redeemed.get());
+    }
+
+    private Member createMemberWithPoints() {
+        Member member = testMembers.member("redemption-stress@example.com");
+        for (int i = 0; i < RECORDS; i++) {
+            pointService.earnPoints(member, POINTS_PER_RECORD, "TEST", "stress seed", LocalDateTime.now().plusDays(30));
+        }
+        return member;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+/**
+ * POST /api/points/earn with the earn pipeline disabled, the default.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PointServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int EARNS_PER_THREAD = 25;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PointTransactionBulkhead bulkhead;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestMembers testMembers;
+
+    @Test
+    void concurrentEarnsForOneMemberAreAllApplied() throws Exception {
+        Member member = testMembers.memberWithBalance("earn-concurrent@example.com");
+        memberService.getMemberWithPoints(member.getId());
+        int permits = bulkhead.availablePermits();
+        LocalDateTime expireAt = LocalDateTime.now().plusDays(30);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < EARNS_PER_THREAD; i++) {
+                    pointService.earnPointsAsync(member.getId(), 10, "POS", "concurrent", expireAt).join();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        int expected = THREADS * EARNS_PER_THREAD * 10;
+        PointBalance balance = pointBalanceRepository.findByMember(member).orElseThrow();
+        assertThat(balance.getTotalPoints()).isEqualTo(expected);
+        assertThat(balance.getAvailablePoints()).isEqualTo(expected);
+        assertThat(countFor("point_record", member)).isEqualTo(THREADS * EARNS_PER_THREAD);
+        assertThat(countFor("point_transaction", member)).isEqualTo(THREADS * EARNS_PER_THREAD);
+        assertThat(bulkhead.availablePermits()).isEqualTo(permits);
+        // the summary cached before the earns was dropped after their commits
+        assertThat(memberService.getMemberWithPoints(member.getId()).getAvailablePoints()).isEqualTo(expected);
+    }
+
+    @Test
+    void aFailingEarnLeavesNothingBehind() {
+        Member member = testMembers.memberWithBalance("earn-rollback@example.com");
+
+        // the record insert succeeds, the transaction insert fails on the description length
+        assertThatThrownBy(() -> pointService.earnPointsAsync(member.getId(), 10, "POS", "x".repeat(300), LocalDateTime.now().plusDays(30)))
+                .isInstanceOf(DataAccessException.class);
+
+        assertThat(countFor("point_record", member)).isZero();
+        assertThat(countFor("point_transaction", member)).isZero();
+        assertThat(pointBalanceRepository.findByMember(member).orElseThrow().getTotalPoints()).isZero();
+    }
+
+    private int countFor(String table, Member member) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE member_id = ?", Integer.class, member.getId());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.memberservice.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.MemberLevel;
+import com.example.memberservice.entity.PointBalance;
+import com.example.memberservice.repository.MemberLevelRepository;
+import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.repository.PointBalanceRepository;
+
+/**
+ * Creates committed test members at the BRONZE level, which is created on first use. Picked up by the
+ * component scan of every @SpringBootTest, so using it does not change the cached test context; a
+ * @DataJpaTest imports it, and its members are rolled back with the test transaction.
+ */
+@Component
+public class TestMembers {
+    private final MemberLevelRepository memberLevelRepository;
+    private final MemberRepository memberRepository;
+    private final PointBalanceRepository pointBalanceRepository;
+
+    public TestMembers(MemberLevelRepository memberLevelRepository, MemberRepository memberRepository, PointBalanceRepository pointBalanceRepository) {
+        this.memberLevelRepository = memberLevelRepository;
+        this.memberRepository = memberRepository;
+        this.pointBalanceRepository = pointBalanceRepository;
+    }
+
+    public MemberLevel bronze() {
+        return memberLevelRepository.findByLevel(MemberLevel.Level.BRONZE).orElseGet(() -> {
+            MemberLevel level = new MemberLevel();
+            level.setLevel(MemberLevel.Level.BRONZE);
+            level.setMinPointsRequired(0);
+            return memberLevelRepository.save(level);
+        });
+    }
+
+    /**
+     * A member without a PointBalance row, as left behind by ledger-mode earns before compaction.
+     */
+    public Member member(String email) {
+        Member member = new Member();
+        member.setFirstName("Test");
+        member.setLastName("Member");
+        member.setEmail(email);
+        member.setMemberLevel(bronze());
+        return memberRepository.save(member);
+    }
+
+    /**
+     * A member with a zeroed PointBalance, as after registration.
+     */
+    public Member memberWithBalance(String email) {
+        Member member = member(email);
+        PointBalance balance = new PointBalance();
+        balance.setMember(member);
+        balance.setTotalPoints(0);
+        balance.setUsedPoints(0);
+        balance.setExpiredPoints(0);
+        balance.setAvailablePoints(0);
+        balance.setLastUpdated(LocalDateTime.now());
+        pointBalanceRepository.save(balance);
+        return member;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.memberservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.entity.MemberLevel;
+import com.example.memberservice.repository.MemberLevelRepository;
+import com.example.memberservice.repository.MemberRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+class TierEvaluationServiceTest {
+
+    @Autowired
+    private TierEvaluationService tierEvaluationService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointExpiryService pointExpiryService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberLevelRepository memberLevelRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void earningPromotesAndSweepDemotes() {
+        MemberLevel bronze = level(MemberLevel.Level.BRONZE, 0);
+        MemberLevel silver = level(MemberLevel.Level.SILVER, 1000);
+        MemberLevel gold = level(MemberLevel.Level.GOLD, 5000);
+
+        Member member = member("tier-test@example.com", bronze);
+
+        pointService.earnPoints(member, 1500, "TEST", "tier", LocalDateTime.now().plusDays(30));
+        tierEvaluationService.evaluatePending();
+        assertThat(levelIdOf(member)).isEqualTo(silver.getId());
+
+        pointService.earnPoints(member, 4000, "TEST", "tier", LocalDateTime.now().plusDays(30));
+        tierEvaluationService.evaluatePending();
+        assertThat(levelIdOf(member)).isEqualTo(gold.getId());
+
+        pointService.redeemPoints(member, 3000, "tier");
+        TierEvaluationService.TierChanges changes = tierEvaluationService.sweepAll();
+        assertThat(changes.demotions()).isGreaterThanOrEqualTo(1);
+        assertThat(levelIdOf(member)).isEqualTo(silver.getId());
+    }
+
+    @Test
+    void membersWithoutALevelArePlacedByBalance() {
+        MemberLevel bronze = level(MemberLevel.Level.BRONZE, 0);
+        MemberLevel silver = level(MemberLevel.Level.SILVER, 1000);
+        level(MemberLevel.Level.GOLD, 5000);
+        Member small = member("tier-unassigned-small@example.com", null);
+        Member large = member("tier-unassigned-large@example.com", null);
+
+        pointService.earnPoints(small, 10, "TEST", "tier", LocalDateTime.now().plusDays(30));
+        pointService.earnPoints(large, 1500, "TEST", "tier", LocalDateTime.now().plusDays(30));
+        tierEvaluationService.evaluatePending();
+
+        assertThat(levelIdOf(small)).isEqualTo(bronze.getId());
+        assertThat(levelIdOf(large)).isEqualTo(silver.getId());
+    }
+
+    @Test
+    void redemptionAndExpiryQueueADemotion() {
+        MemberLevel bronze = level(MemberLevel.Level.BRONZE, 0);
+        MemberLevel silver = level(MemberLevel.Level.SILVER, 1000);
+        MemberLevel gold = level(MemberLevel.Level.GOLD, 5000);
+        Member member = member("tier-demotion@example.com", gold);
+        pointService.earnPoints(member, 1500, "TEST", "tier", LocalDateTime.now().plusDays(30));
+        pointService.earnPoints(member, 4000, "TEST", "tier", LocalDateTime.now().plusDays(30));
+        tierEvaluationService.evaluatePending();
+        assertThat(levelIdOf(member)).isEqualTo(gold.getId());
+
+        pointService.redeemPoints(member, 3000, "tier");
+        tierEvaluationService.evaluatePending();
+        assertThat(levelIdOf(member)).isEqualTo(silver.getId());
+
+        jdbcTemplate.update("UPDATE point_record SET expire_date = ? WHERE member_id = ?", LocalDateTime.now().minusDays(1), member.getId());
+        pointExpiryService.expireAll();
+        tierEvaluationService.evaluatePending();
+        assertThat(levelIdOf(member)).isEqualTo(bronze.getId());
+    }
+
+    private Member member(String email, MemberLevel level) {
+        Member member = new Member();
+        member.setFirstName("Tier");
+        member.setLastName("Test");
+        member.setEmail(email);
+        member.setMemberLevel(level);
+        return memberRepository.save(member);
+    }
+
+    private MemberLevel level(MemberLevel.Level level, int minPointsRequired) {
+        MemberLevel memberLevel = memberLevelRepository.findByLevel(level).orElseGet(MemberLevel::new);
+        memberLevel.setLevel(level);
+        memberLevel.setMinPointsRequired(minPointsRequired);
+        return memberLevelRepository.save(memberLevel);
+    }
+
+    private Long levelIdOf(Member member) {
+        return jdbcTemplate.queryForObject("SELECT member_level_id FROM member WHERE id = ?", Long.class, member.getId());
+    }
+}
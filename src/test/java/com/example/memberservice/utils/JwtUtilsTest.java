@@ -0,0 +1,47 @@
+package com.example.memberservice.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the principal cache never answers for a token that verification would reject.
+ */
+class JwtUtilsTest {
+
+    private final JwtUtils jwtUtils = new JwtUtils(100);
+
+    @Test
+    void cachedPrincipalIsNotReturnedOnceTheTokenExpires() throws InterruptedException {
+        // exp has second precision, so the token lives until the start of a whole second
+        Instant expiresAt = Instant.now().plusSeconds(2).truncatedTo(ChronoUnit.SECONDS);
+        String token = jwtUtils.createToken("member@example.com", "ACCESS", "USER", expiresAt);
+
+        assertThat(jwtUtils.resolvePrincipal(token)).isNotNull();
+        assertThat(jwtUtils.resolvePrincipal(token)).isNotNull();
+
+        Thread.sleep(Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis()) + 50);
+        assertThat(jwtUtils.resolvePrincipal(token)).isNull();
+    }
+
+    @Test
+    void tamperedTokenDoesNotHitTheCachedPrincipal() {
+        String token = jwtUtils.createAccessToken("member@example.com");
+        assertThat(jwtUtils.resolvePrincipal(token)).isNotNull();
+
+        String[] parts = token.split("\\.");
+        String forgedSignature = parts[0] + "." + parts[1] + "." + flipFirstChar(parts[2]);
+        String forgedPayload = parts[0] + "." + jwtUtils.createAccessToken("admin@example.com", "ADMIN").split("\\.")[1] + "." + parts[2];
+
+        assertThat(jwtUtils.resolvePrincipal(forgedSignature)).isNull();
+        assertThat(jwtUtils.resolvePrincipal(forgedPayload)).isNull();
+        assertThat(jwtUtils.resolvePrincipal(token).getRole()).isEqualTo("USER");
+    }
+
+    private static String flipFirstChar(String value) {
+        return (value.charAt(0) == 'A' ? "B" : "A") + value.substring(1);
+    }
+}
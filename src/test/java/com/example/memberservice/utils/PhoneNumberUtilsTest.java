@@ -0,0 +1,121 @@
+package com.example.memberservice.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Property tests comparing the char-scanning implementation with the original regex-based one
+ * over randomly generated inputs.
+ */
+class PhoneNumberUtilsTest {
+
+    private static final int SAMPLES = 50_000;
+    private static final String ALPHABET = "0123456789++++666000 -().#x\t๑０";
+    private static final String[] PREFIXES = { "", "0", "+66", "66", "+", "6", "+6", " 0", "(+66)", "00" };
+
+    private final Random random = new Random(20240518L);
+
+    @Test
+    void normalizeMatchesRegexImplementation() {
+        for (int i = 0; i < SAMPLES; i++) {
+            String input = randomPhoneLike();
+            assertThat(outcome(() -> PhoneNumberUtils.normalize(input)))
+                    .as("normalize(\"%s\")", input)
+                    .isEqualTo(outcome(() -> legacyNormalize(input)));
+        }
+    }
+
+    @Test
+    void isValidMatchesRegexImplementation() {
+        for (int i = 0; i < SAMPLES; i++) {
+            String input = random.nextBoolean() ? randomPhoneLike() : "+66" + randomString(7 + random.nextInt(4));
+            assertThat(PhoneNumberUtils.isValid(input))
+                    .as("isValid(\"%s\")", input)
+                    .isEqualTo(legacyIsValid(input));
+        }
+        assertThat(PhoneNumberUtils.isValid(null)).isFalse();
+        assertThat(PhoneNumberUtils.isValid("+66812345678\n")).isFalse();
+    }
+
+    @Test
+    void normalizeReturnsAlreadyNormalizedInputUnchanged() {
+        String normalized = "+66812345678";
+        assertThat(PhoneNumberUtils.normalize(normalized)).isSameAs(normalized);
+    }
+
+    @Test
+    void normalizeRejectsBlankInput() {
+        assertThatThrownBy(() -> PhoneNumberUtils.normalize(" \t"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Phone number cannot be null or empty");
+    }
+
+    @Test
+    void normalizeAllKeepsPositionsAndNullsInvalidEntries() {
+        List<String> normalized = PhoneNumberUtils.normalizeAll(Arrays.asList("081-234-5678", "12345", null, "66812345678"));
+
+        assertThat(normalized).containsExactly("+66812345678", null, null, "+66812345678");
+    }
+
+    private String randomPhoneLike() {
+        return PREFIXES[random.nextInt(PREFIXES.length)] + randomString(random.nextInt(14));
+    }
+
+    private String randomString(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static List<String> outcome(ThrowingSupplier supplier) {
+        List<String> outcome = new ArrayList<>(2);
+        try {
+            outcome.add(supplier.get());
+        } catch (IllegalArgumentException e) {
+            outcome.add("threw");
+            outcome.add(e.getMessage());
+        }
+        return outcome;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        String get();
+    }
+
+    // the implementation PhoneNumberUtils shipped with before the single-pass rewrite
+    private static String legacyNormalize(String rawPhoneNumber) {
+        if (rawPhoneNumber == null || rawPhoneNumber.isBlank()) {
+            throw new IllegalArgumentException("Phone number cannot be null or empty");
+        }
+
+        String digitsOnly = rawPhoneNumber.replaceAll("[^0-9+]", "");
+
+        if (digitsOnly.startsWith("0")) {
+            return "+66" + digitsOnly.substring(1);
+        }
+
+        if (digitsOnly.startsWith("+66")) {
+            return digitsOnly;
+        }
+
+        if (digitsOnly.startsWith("66")) {
+            return "+" + digitsOnly;
+        }
+
+        throw new IllegalArgumentException("Invalid Thai phone number format");
+    }
+
+    private static boolean legacyIsValid(String normalizedPhone) {
+        return normalizedPhone != null && normalizedPhone.matches("^\\+66[0-9]{9}$");
+    }
+}
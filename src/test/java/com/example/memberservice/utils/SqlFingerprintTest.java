@@ -0,0 +1,25 @@
+package com.example.memberservice.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SqlFingerprintTest {
+
+    @Test
+    void literalsAndWhitespaceAreNormalized() {
+        assertThat(SqlFingerprint.of("select m1_0.id from member m1_0\n  where m1_0.email = 'a''b@example.com' and m1_0.id > 42 limit 10"))
+                .isEqualTo("select m1_0.id from member m1_0 where m1_0.email = ? and m1_0.id > ? limit ?");
+    }
+
+    @Test
+    void placeholderListsCollapseRegardlessOfLength() {
+        String two = SqlFingerprint.of("select id from member where id in (?, ?)");
+        String five = SqlFingerprint.of("select id from member where id in (?,?,?,?,?)");
+
+        assertThat(two).isEqualTo("select id from member where id in (?...)").isEqualTo(five);
+        assertThat(SqlFingerprint.of("insert into point_record (member_id, points) values (?, ?)"))
+                .isEqualTo("insert into point_record (member_id, points) values (?...)");
+        assertThat(SqlFingerprint.of("select count(?) from member")).isEqualTo("select count(?) from member");
+    }
+}